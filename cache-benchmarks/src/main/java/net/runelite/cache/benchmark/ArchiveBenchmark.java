@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DataFile;
+import net.runelite.cache.fs.jagex.IndexEntry;
+import net.runelite.cache.fs.jagex.IndexFile;
+import net.runelite.cache.index.FileData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading archives from the data file and splitting decompressed archives
+ * into their files. Each invocation processes the next archive of a sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArchiveBenchmark
+{
+	private static final IndexType[] INDEXES = {
+		IndexType.CONFIGS, IndexType.INTERFACES, IndexType.MODELS, IndexType.SPRITES, IndexType.CLIENTSCRIPT
+	};
+	private static final int ARCHIVES_PER_INDEX = 256;
+
+	@Param({"false", "true"})
+	private boolean view;
+
+	private BenchmarkStore benchmarkStore;
+	private DataFile dataFile;
+
+	// data file reads
+	private IndexEntry[] entries;
+	private int[] entryIndexes;
+	private int nextEntry;
+
+	// decompressed archives with more than one file
+	private int[][] fileIds;
+	private byte[][] contents;
+	private int nextArchive;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		benchmarkStore = new BenchmarkStore();
+		Store store = benchmarkStore.getStore();
+		Storage storage = store.getStorage();
+		dataFile = new DataFile(new File(benchmarkStore.getFolder(), "main_file_cache.dat2"));
+
+		List<IndexEntry> entries = new ArrayList<>();
+		List<Integer> entryIndexes = new ArrayList<>();
+		List<int[]> fileIds = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		for (IndexType indexType : INDEXES)
+		{
+			List<Archive> archives = store.getIndex(indexType).getArchives();
+			int step = Math.max(1, archives.size() / ARCHIVES_PER_INDEX);
+
+			try (IndexFile indexFile = new IndexFile(indexType.getNumber(),
+				new File(benchmarkStore.getFolder(), "main_file_cache.idx" + indexType.getNumber())))
+			{
+				for (int i = 0; i < archives.size(); i += step)
+				{
+					Archive archive = archives.get(i);
+					IndexEntry entry = indexFile.read(archive.getArchiveId());
+					if (entry == null)
+					{
+						continue;
+					}
+
+					entries.add(entry);
+					entryIndexes.add(indexType.getNumber());
+
+					FileData[] fileData = archive.getFileData();
+					if (fileData.length > 1)
+					{
+						int[] ids = new int[fileData.length];
+						for (int j = 0; j < fileData.length; ++j)
+						{
+							ids[j] = fileData[j].getId();
+						}
+						fileIds.add(ids);
+						contents.add(archive.decompress(storage.loadArchive(archive)));
+					}
+				}
+			}
+		}
+
+		this.entries = entries.toArray(new IndexEntry[0]);
+		this.entryIndexes = entryIndexes.stream().mapToInt(Integer::intValue).toArray();
+		this.fileIds = fileIds.toArray(new int[0][]);
+		this.contents = contents.toArray(new byte[0][]);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		dataFile.close();
+		benchmarkStore.close();
+	}
+
+	@Benchmark
+	public byte[] readDataFile() throws IOException
+	{
+		int i = nextEntry;
+		nextEntry = (nextEntry + 1) % entries.length;
+
+		IndexEntry entry = entries[i];
+		return dataFile.read(entryIndexes[i], entry.getId(), entry.getSector(), entry.getLength());
+	}
+
+	@Benchmark
+	public ArchiveFiles loadContents()
+	{
+		int i = nextArchive;
+		nextArchive = (nextArchive + 1) % contents.length;
+
+		ArchiveFiles files = new ArchiveFiles();
+		for (int fileId : fileIds[i])
+		{
+			files.addFile(new FSFile(fileId));
+		}
+		files.loadContents(contents[i], view);
+		return files;
+	}
+}
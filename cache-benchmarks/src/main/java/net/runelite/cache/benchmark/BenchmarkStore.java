@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import lombok.Getter;
+import net.runelite.cache.fs.Store;
+
+/**
+ * A store over a copy of the cache from the net.runelite.rs:cache artifact,
+ * extracted to a temporary directory which is removed on close.
+ */
+class BenchmarkStore implements Closeable
+{
+	private static final int NUM_INDEXES = 16;
+
+	@Getter
+	private final File folder;
+	@Getter
+	private final Store store;
+
+	BenchmarkStore() throws IOException
+	{
+		folder = Files.createTempDirectory("cache-benchmark").toFile();
+
+		copy("main_file_cache.dat2");
+		copy("main_file_cache.idx255");
+		for (int i = 0; i <= NUM_INDEXES; ++i)
+		{
+			copy("main_file_cache.idx" + i);
+		}
+
+		store = new Store(folder);
+		store.load();
+	}
+
+	private void copy(String name) throws IOException
+	{
+		try (InputStream in = BenchmarkStore.class.getResourceAsStream("/" + name))
+		{
+			if (in == null)
+			{
+				throw new IOException("Missing cache file " + name);
+			}
+
+			Files.copy(in, new File(folder, name).toPath());
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		store.close();
+
+		File[] files = folder.listFiles();
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				file.delete();
+			}
+		}
+		folder.delete();
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Container compression and decompression of real archives. The archives are
+ * recompressed with each compression type in setup, so every type runs over
+ * the same contents. Each invocation processes the next archive.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContainerBenchmark
+{
+	private static final IndexType[] INDEXES = {
+		IndexType.CONFIGS, IndexType.INTERFACES, IndexType.MODELS, IndexType.SPRITES, IndexType.CLIENTSCRIPT
+	};
+	private static final int ARCHIVES_PER_INDEX = 256;
+	private static final int[] KEYS = {0x1e4f3c2a, 0x7b9d0e61, 0x2c8a5f13, 0x6d0b7e94};
+
+	@Param({"NONE", "BZ2", "GZ"})
+	private String compression;
+
+	@Param({"false", "true"})
+	private boolean encrypted;
+
+	private int compressionType;
+	private int[] keys;
+	private byte[][] contents;
+	private byte[][] containers;
+	private int next;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		compressionType = compressionType(compression);
+		keys = encrypted ? KEYS : null;
+
+		List<byte[]> loaded = new ArrayList<>();
+		try (BenchmarkStore benchmarkStore = new BenchmarkStore())
+		{
+			Storage storage = benchmarkStore.getStore().getStorage();
+			for (IndexType indexType : INDEXES)
+			{
+				Index index = benchmarkStore.getStore().getIndex(indexType);
+				List<Archive> archives = index.getArchives();
+
+				// spread the sample over the index, as archive sizes vary with id
+				int step = Math.max(1, archives.size() / ARCHIVES_PER_INDEX);
+				for (int i = 0; i < archives.size(); i += step)
+				{
+					byte[] data = storage.loadArchive(archives.get(i));
+					if (data != null)
+					{
+						loaded.add(Container.decompress(data, null).data);
+					}
+				}
+			}
+		}
+
+		contents = loaded.toArray(new byte[0][]);
+		containers = new byte[contents.length][];
+		for (int i = 0; i < contents.length; ++i)
+		{
+			Container container = new Container(compressionType, -1);
+			container.compress(contents[i], keys);
+			containers[i] = container.data;
+		}
+	}
+
+	@Benchmark
+	public byte[] decompress() throws IOException
+	{
+		byte[] container = containers[next];
+		next = (next + 1) % containers.length;
+		return Container.decompress(container, keys).data;
+	}
+
+	@Benchmark
+	public byte[] compress() throws IOException
+	{
+		byte[] data = contents[next];
+		next = (next + 1) % contents.length;
+
+		Container container = new Container(compressionType, -1);
+		container.compress(data, keys);
+		return container.data;
+	}
+
+	private static int compressionType(String name)
+	{
+		switch (name)
+		{
+			case "NONE":
+				return CompressionType.NONE;
+			case "BZ2":
+				return CompressionType.BZ2;
+			case "GZ":
+				return CompressionType.GZ;
+			default:
+				throw new IllegalArgumentException("Unknown compression type " + name);
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.LocationsLoader;
+import net.runelite.cache.definitions.loaders.MapLoader;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.definitions.loaders.SpriteLoader;
+import net.runelite.cache.definitions.savers.LocationSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of definitions from the decompressed files of the cache. Each
+ * invocation decodes the next file of a sample of each kind. Run with
+ * -prof gc to see the allocation rate per definition.
+ * <p>
+ * Locations are encrypted in the cache, so they are decoded from synthetic
+ * data written by LocationSaver instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefinitionBenchmark
+{
+	private static final int MODELS = 1024;
+	private static final int SPRITES = 512;
+	private static final int REGIONS = 64;
+	private static final int LOCATIONS_PER_REGION = 2048;
+
+	private final ItemLoader itemLoader = new ItemLoader();
+	private final ObjectLoader objectLoader = new ObjectLoader();
+	private final ModelLoader modelLoader = new ModelLoader();
+	private final SpriteLoader spriteLoader = new SpriteLoader();
+	private final MapLoader mapLoader = new MapLoader();
+	private final LocationsLoader locationsLoader = new LocationsLoader();
+
+	private Corpus items;
+	private Corpus objects;
+	private Corpus models;
+	private Corpus sprites;
+	private Corpus maps;
+	private Corpus locations;
+
+	/**
+	 * File contents with their ids, decoded round robin
+	 */
+	private static class Corpus
+	{
+		private final int[] ids;
+		private final byte[][] contents;
+		private int next;
+
+		Corpus(List<Integer> ids, List<byte[]> contents)
+		{
+			this.ids = ids.stream().mapToInt(Integer::intValue).toArray();
+			this.contents = contents.toArray(new byte[0][]);
+		}
+
+		int advance()
+		{
+			int i = next;
+			next = (next + 1) % contents.length;
+			return i;
+		}
+	}
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (BenchmarkStore benchmarkStore = new BenchmarkStore())
+		{
+			Store store = benchmarkStore.getStore();
+			items = loadConfig(store, ConfigType.ITEM);
+			objects = loadConfig(store, ConfigType.OBJECT);
+			models = loadArchives(store, IndexType.MODELS, MODELS);
+			sprites = loadArchives(store, IndexType.SPRITES, SPRITES);
+			maps = loadMaps(store);
+		}
+		locations = createLocations();
+	}
+
+	@Benchmark
+	public ItemDefinition item()
+	{
+		int i = items.advance();
+		return itemLoader.load(items.ids[i], items.contents[i]);
+	}
+
+	@Benchmark
+	public ObjectDefinition object()
+	{
+		int i = objects.advance();
+		return objectLoader.load(objects.ids[i], objects.contents[i]);
+	}
+
+	@Benchmark
+	public ModelDefinition model()
+	{
+		int i = models.advance();
+		return modelLoader.load(models.ids[i], models.contents[i]);
+	}
+
+	@Benchmark
+	public SpriteDefinition[] sprite()
+	{
+		int i = sprites.advance();
+		return spriteLoader.load(sprites.ids[i], sprites.contents[i]);
+	}
+
+	@Benchmark
+	public MapDefinition map()
+	{
+		int i = maps.advance();
+		int region = maps.ids[i];
+		return mapLoader.load(region >> 8, region & 0xFF, maps.contents[i]);
+	}
+
+	@Benchmark
+	public LocationsDefinition locations()
+	{
+		int i = locations.advance();
+		int region = locations.ids[i];
+		return locationsLoader.load(region >> 8, region & 0xFF, locations.contents[i]);
+	}
+
+	private static Corpus loadConfig(Store store, ConfigType configType) throws IOException
+	{
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(configType.getId());
+		ArchiveFiles files = archive.getFiles(store.getStorage().loadArchive(archive));
+
+		List<Integer> ids = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		for (FSFile file : files.getFiles())
+		{
+			ids.add(file.getFileId());
+			contents.add(file.getContents());
+		}
+		return new Corpus(ids, contents);
+	}
+
+	/**
+	 * Load the first file of a sample of archives, spread over the index
+	 */
+	private static Corpus loadArchives(Store store, IndexType indexType, int count) throws IOException
+	{
+		Storage storage = store.getStorage();
+		List<Archive> archives = store.getIndex(indexType).getArchives();
+		int step = Math.max(1, archives.size() / count);
+
+		List<Integer> ids = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		for (int i = 0; i < archives.size(); i += step)
+		{
+			Archive archive = archives.get(i);
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				continue;
+			}
+
+			ArchiveFiles files = archive.getFiles(data);
+			ids.add(archive.getArchiveId());
+			contents.add(files.getFiles().get(0).getContents());
+		}
+		return new Corpus(ids, contents);
+	}
+
+	private static Corpus loadMaps(Store store) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.MAPS);
+
+		List<Integer> regions = new ArrayList<>();
+		for (int region = 0; region < 0x8000; ++region)
+		{
+			if (index.findArchiveByName("m" + (region >> 8) + "_" + (region & 0xFF)) != null)
+			{
+				regions.add(region);
+			}
+		}
+		int step = Math.max(1, regions.size() / REGIONS);
+
+		List<Integer> ids = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		// map archives are not encrypted, unlike the locations
+		for (int i = 0; i < regions.size(); i += step)
+		{
+			int region = regions.get(i);
+			Archive map = index.findArchiveByName("m" + (region >> 8) + "_" + (region & 0xFF));
+			byte[] data = storage.loadArchive(map);
+			if (data != null)
+			{
+				ids.add(region);
+				contents.add(map.decompress(data));
+			}
+		}
+		return new Corpus(ids, contents);
+	}
+
+	private static Corpus createLocations()
+	{
+		Random random = new Random(42);
+		LocationSaver saver = new LocationSaver();
+
+		List<Integer> ids = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		for (int region = 0; region < REGIONS; ++region)
+		{
+			LocationsDefinition def = new LocationsDefinition();
+			int id = 0;
+			int position = 0;
+			for (int i = 0; i < LOCATIONS_PER_REGION; ++i)
+			{
+				// ascending positions per object, as LocationSaver writes deltas
+				if (random.nextInt(8) == 0 || position >= 0x3F00)
+				{
+					id += 1 + random.nextInt(64);
+					position = 0;
+				}
+				position += 1 + random.nextInt(64);
+
+				Position pos = new Position(position >> 6 & 0x3F, position & 0x3F, position >> 12 & 0x3);
+				def.getLocations().add(new Location(id, random.nextInt(23), random.nextInt(4), pos));
+			}
+
+			ids.add(region);
+			contents.add(saver.save(def));
+		}
+		return new Corpus(ids, contents);
+	}
+}
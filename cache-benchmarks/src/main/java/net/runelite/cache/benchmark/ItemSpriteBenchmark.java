@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.loaders.SpriteLoader;
+import net.runelite.cache.definitions.providers.CachedArchiveFilesProvider;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.LazyTextureProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.StoreArchiveFilesProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.item.ItemSpriteFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Item sprite rendering. ItemSpriteFactory modifies the definitions it is
+ * given, so as in the http service the items, models and sprites are decoded
+ * from cached archives for each render. Each invocation renders the next
+ * item of a sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ItemSpriteBenchmark
+{
+	private static final int ITEMS = 256;
+	private static final int BORDER = 1;
+	private static final int SHADOW_COLOR = 0x302020;
+
+	private BenchmarkStore benchmarkStore;
+	private CachedArchiveFilesProvider archives;
+	private final ItemProvider itemProvider = this::loadItem;
+	private final ModelProvider modelProvider = this::loadModel;
+	private final SpriteProvider spriteProvider = this::loadSprite;
+	private TextureProvider textureProvider;
+
+	private int[] itemIds;
+	private int next;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		benchmarkStore = new BenchmarkStore();
+		archives = new CachedArchiveFilesProvider(new StoreArchiveFilesProvider(benchmarkStore.getStore()), Long.MAX_VALUE);
+		textureProvider = new LazyTextureProvider(archives);
+
+		List<FSFile> files = archives.provide(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId()).getFiles();
+		int step = Math.max(1, files.size() / ITEMS);
+
+		// only items which render, which also loads their archives
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < files.size(); i += step)
+		{
+			int itemId = files.get(i).getFileId();
+			if (render(itemId) != null)
+			{
+				ids.add(itemId);
+			}
+		}
+		itemIds = ids.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		benchmarkStore.close();
+	}
+
+	@Benchmark
+	public BufferedImage createSprite() throws IOException
+	{
+		int itemId = itemIds[next];
+		next = (next + 1) % itemIds.length;
+		return render(itemId);
+	}
+
+	private BufferedImage render(int itemId) throws IOException
+	{
+		return ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+			itemId, 1, BORDER, SHADOW_COLOR, false);
+	}
+
+	private ItemDefinition loadItem(int itemId)
+	{
+		try
+		{
+			ArchiveFiles files = archives.provide(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId());
+			FSFile file = files.findFile(itemId);
+			return file == null ? null : new ItemLoader().load(itemId, file.getContents());
+		}
+		catch (IOException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private ModelDefinition loadModel(int modelId) throws IOException
+	{
+		ArchiveFiles files = archives.provide(IndexType.MODELS.getNumber(), modelId);
+		return files == null ? null : new ModelLoader().load(modelId, files.getFiles().get(0).getContents());
+	}
+
+	private SpriteDefinition loadSprite(int spriteId, int frameId)
+	{
+		try
+		{
+			ArchiveFiles files = archives.provide(IndexType.SPRITES.getNumber(), spriteId);
+			if (files == null)
+			{
+				return null;
+			}
+
+			SpriteDefinition[] frames = new SpriteLoader().load(spriteId, files.getFiles().get(0).getContents());
+			return frameId >= 0 && frameId < frames.length ? frames[frameId] : null;
+		}
+		catch (IOException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+	}
+}
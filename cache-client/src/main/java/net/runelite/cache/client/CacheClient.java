@@ -24,7 +24,6 @@
  */
 package net.runelite.cache.client;
 
-import com.google.common.base.Stopwatch;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -38,18 +37,15 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
 import net.runelite.cache.fs.Store;
-import net.runelite.cache.index.ArchiveData;
-import net.runelite.cache.index.IndexData;
-import net.runelite.cache.util.Crc32;
 import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
 import net.runelite.protocol.api.login.HandshakeResponseType;
 import net.runelite.protocol.api.update.ArchiveRequestPacket;
@@ -68,19 +64,25 @@ public class CacheClient implements AutoCloseable
 	private static final int PORT = 43594;
 
 	private static final int MAX_REQUESTS = 19; // too many and the server closes the conncetion
+	private static final int MAX_PENDING = 1024; // downloaded archives waiting to be written
+	// permits released on disconnect, enough to wake every thread waiting for the request window
+	private static final int DISCONNECT_PERMITS = 1 << 16;
 
 	private final Store store; // store cache will be written to
 	private final String host;
+	private final int port;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
 
-	private ClientState state;
+	private volatile ClientState state;
 
 	private final EventLoopGroup group = new NioEventLoopGroup(1);
 	private Channel channel;
 
 	private CompletableFuture<HandshakeResponseType> handshakeFuture;
-	private final Queue<PendingFileRequest> requests = new ArrayDeque<>();
+	// pending requests keyed by index << 16 | archive, completed from the netty thread
+	private final ConcurrentMap<Integer, PendingFileRequest> requests = new ConcurrentHashMap<>();
+	private volatile Semaphore window = new Semaphore(MAX_REQUESTS);
 
 	public CacheClient(Store store, int clientRevision)
 	{
@@ -88,9 +90,15 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public CacheClient(Store store, String host, int clientRevision)
+	{
+		this(store, host, PORT, clientRevision);
+	}
+
+	public CacheClient(Store store, String host, int port, int clientRevision)
 	{
 		this.store = store;
 		this.host = host;
+		this.port = port;
 		this.clientRevision = clientRevision;
 	}
 
@@ -117,7 +125,7 @@ public class CacheClient implements AutoCloseable
 					p.addLast("decoder", new HandshakeResponseDecoder());
 
 					p.addLast(
-						new CacheClientHandler(),
+						new CacheClientHandler(CacheClient.this),
 						new HandshakeResponseHandler(CacheClient.this),
 						new ArchiveResponseHandler(CacheClient.this)
 					);
@@ -131,7 +139,7 @@ public class CacheClient implements AutoCloseable
 			});
 
 		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
 		channel = f.channel();
 	}
 
@@ -183,7 +191,7 @@ public class CacheClient implements AutoCloseable
 	{
 		logger.info("Requesting indexes");
 
-		FileResult result = requestFile(255, 255, true).join();
+		FileResult result = join(requestFile(255, 255, true));
 		result.decompress(null);
 
 		ByteBuf buffer = Unpooled.wrappedBuffer(result.getContents());
@@ -202,201 +210,84 @@ public class CacheClient implements AutoCloseable
 
 	public void download() throws IOException
 	{
-		Stopwatch stopwatch = Stopwatch.createStarted();
-
-		List<IndexInfo> indexes = requestIndexes();
-		for (IndexInfo indexInfo : indexes)
-		{
-			int i = indexInfo.getId();
-			int crc = indexInfo.getCrc();
-			int revision = indexInfo.getRevision();
-
-			Index index = store.findIndex(i);
-
-			if (index == null)
-			{
-				logger.info("Index {} does not exist, creating", i);
-			}
-			else if (index.getRevision() != revision)
-			{
-				if (revision < index.getRevision())
-				{
-					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-				else
-				{
-					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-			}
-			else if (index.getCrc() != crc)
-			{
-				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
-					index.getCrc(), index.getCrc(), crc);
-			}
-			else
-			{
-				// despite the index being up to date, not everything
-				// can be downloaded, eg. for tracks.
-				logger.info("Index {} is up to date", index.getId());
-			}
-
-			logger.info("Downloading index {}", i);
-
-			FileResult indexFileResult = requestFile(255, i, true).join();
-			indexFileResult.decompress(null);
-
-			logger.info("Downloaded index {}", i);
-
-			if (indexFileResult.getCrc() != crc)
-			{
-				logger.warn("Corrupted download for index {}", i);
-				continue;
-			}
-
-			IndexData indexData = new IndexData();
-			indexData.load(indexFileResult.getContents());
-
-			if (index == null)
-			{
-				index = store.addIndex(i);
-			}
-
-			// update index settings
-			index.setProtocol(indexData.getProtocol());
-			index.setNamed(indexData.isNamed());
-			index.setCrc(crc);
-			index.setRevision(revision);
-
-			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
-
-			for (ArchiveData ad : indexData.getArchives())
-			{
-				Archive existing = index.getArchive(ad.getId());
+		CacheDownloader downloader = new CacheDownloader(store, Collections.singletonList(this), 1, MAX_PENDING, watcher);
+		downloader.download();
+	}
 
-				if (existing != null && existing.getRevision() == ad.getRevision()
-					&& existing.getCrc() == ad.getCrc()
-					&& existing.getNameHash() == ad.getNameHash())
-				{
-					logger.debug("Archive {}/{} in index {} is up to date",
-						ad.getId(), indexData.getArchives().length, index.getId());
-					continue;
-				}
+	void flush()
+	{
+		channel.flush();
+	}
 
-				if (existing == null)
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading",
-						ad.getId(), indexData.getArchives().length, index.getId());
-				}
-				else if (ad.getRevision() < existing.getRevision())
-				{
-					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision());
-				}
-				else
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
-						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision(),
-						existing.getCrc(), ad.getCrc(),
-						existing.getNameHash(), ad.getNameHash());
-				}
+	/**
+	 * Sets the maximum number of requests which may be in flight at once.
+	 * The default is the limit enforced by the official servers.
+	 *
+	 * @param maxRequests maximum number of outstanding requests
+	 */
+	public void setMaxRequests(int maxRequests)
+	{
+		if (maxRequests < 1)
+		{
+			throw new IllegalArgumentException("maxRequests must be positive");
+		}
 
-				final Archive archive = existing == null
-					? index.addArchive(ad.getId())
-					: existing;
+		if (!requests.isEmpty())
+		{
+			throw new IllegalStateException("Can't change the request window with requests in flight");
+		}
 
-				archive.setRevision(ad.getRevision());
-				archive.setCrc(ad.getCrc());
-				archive.setNameHash(ad.getNameHash());
+		window = new Semaphore(maxRequests);
+	}
 
-				// Add files
-				archive.setFileData(ad.getFiles());
+	private static int key(int index, int archive)
+	{
+		return index << 16 | archive;
+	}
 
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
-				future.handle((fr, ex) ->
-				{
-					byte[] data = fr.getCompressedData();
-
-					Crc32 crc32 = new Crc32();
-					crc32.update(data, 0, data.length);
-					int hash = crc32.getHash();
-
-					if (hash != archive.getCrc())
-					{
-						logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
-							archive.getIndex().getId(), archive.getArchiveId(),
-							hash, archive.getCrc());
-						throw new RuntimeException("crc mismatch");
-					}
-
-					if (watcher != null)
-					{
-						watcher.downloadComplete(archive, data);
-					}
-					else
-					{
-						try
-						{
-							Storage storage = store.getStorage();
-							storage.saveArchive(archive, data);
-						}
-						catch (IOException ex1)
-						{
-							logger.warn("unable to save archive data", ex1);
-						}
-					}
-					return null;
-				});
-			}
+	CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	{
+		if (state == ClientState.DISCONNECTED)
+		{
+			return disconnected(index, fileId);
 		}
 
-		// flush any pending requests
-		channel.flush();
+		if (state != ClientState.CONNECTED)
+		{
+			throw new IllegalStateException("Can't request files until connected!");
+		}
 
-		while (!requests.isEmpty())
+		Semaphore window = this.window;
+		if (!window.tryAcquire())
 		{
-			// wait for pending requests
-			synchronized (this)
+			// the responses to the requests we have buffered are what free up the window
+			channel.flush();
+			window.acquireUninterruptibly();
+
+			if (state == ClientState.DISCONNECTED)
 			{
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn(null, ex);
-				}
+				// woken up by onDisconnect
+				return disconnected(index, fileId);
 			}
 		}
 
-		stopwatch.stop();
-		logger.info("Download completed in {}", stopwatch);
-	}
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+		PendingFileRequest pf = new PendingFileRequest(index,
+			fileId, future);
 
-	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
-	{
-		if (state != ClientState.CONNECTED)
+		PendingFileRequest existing = requests.putIfAbsent(key(index, fileId), pf);
+		if (existing != null)
 		{
-			throw new IllegalStateException("Can't request files until connected!");
+			// the server only answers once per archive, so share the outstanding request
+			window.release();
+			return existing.getFuture();
 		}
 
-		if (!flush)
+		if (state == ClientState.DISCONNECTED && requests.remove(key(index, fileId), pf))
 		{
-			while (requests.size() >= MAX_REQUESTS)
-			{
-				channel.flush();
-
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn("interrupted while waiting for requests", ex);
-				}
-			}
+			// disconnected after the pending requests were failed
+			future.completeExceptionally(new IOException("Disconnected from " + host));
+			return future;
 		}
 
 		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
@@ -404,14 +295,8 @@ public class CacheClient implements AutoCloseable
 		archiveRequest.setIndex(index);
 		archiveRequest.setArchive(fileId);
 
-		CompletableFuture<FileResult> future = new CompletableFuture<>();
-		PendingFileRequest pf = new PendingFileRequest(index,
-			fileId, future);
-
 		logger.trace("Sending request for {}/{}", index, fileId);
 
-		requests.add(pf);
-
 		if (!flush)
 		{
 			channel.write(archiveRequest);
@@ -424,21 +309,9 @@ public class CacheClient implements AutoCloseable
 		return future;
 	}
 
-	private PendingFileRequest findRequest(int index, int file)
-	{
-		for (PendingFileRequest pr : requests)
-		{
-			if (pr.getIndex() == index && pr.getArchive() == file)
-			{
-				return pr;
-			}
-		}
-		return null;
-	}
-
-	protected synchronized void onFileFinish(int index, int file, byte[] compressedData)
+	protected void onFileFinish(int index, int file, byte[] compressedData)
 	{
-		PendingFileRequest pr = findRequest(index, file);
+		PendingFileRequest pr = requests.remove(key(index, file));
 
 		if (pr == null)
 		{
@@ -446,9 +319,7 @@ public class CacheClient implements AutoCloseable
 			return;
 		}
 
-		requests.remove(pr);
-
-		notify();
+		window.release();
 
 		FileResult result = new FileResult(index, file, compressedData);
 
@@ -456,4 +327,57 @@ public class CacheClient implements AutoCloseable
 
 		pr.getFuture().complete(result);
 	}
+
+	/**
+	 * Fail the handshake and every pending request, so that nothing waits
+	 * on a connection which will never answer
+	 */
+	void onDisconnect()
+	{
+		state = ClientState.DISCONNECTED;
+
+		IOException ex = new IOException("Disconnected from " + host);
+		if (handshakeFuture != null)
+		{
+			handshakeFuture.completeExceptionally(ex);
+		}
+
+		for (Integer key : requests.keySet())
+		{
+			PendingFileRequest pr = requests.remove(key);
+			if (pr != null)
+			{
+				pr.getFuture().completeExceptionally(ex);
+			}
+		}
+
+		window.release(DISCONNECT_PERMITS);
+	}
+
+	private CompletableFuture<FileResult> disconnected(int index, int fileId)
+	{
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+		future.completeExceptionally(new IOException("Disconnected from " + host + ", can't request " + index + "/" + fileId));
+		return future;
+	}
+
+	/**
+	 * Wait for a request to complete, rethrowing its failure as an IOException
+	 */
+	static <T> T join(CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
 }
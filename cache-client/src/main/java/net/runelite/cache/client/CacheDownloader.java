@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import net.runelite.cache.util.Crc32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads the archives which are out of date in a store over one or more
+ * connections. All requests are pipelined, and the downloaded archives are
+ * crc checked and written to storage on a separate pool of worker threads.
+ */
+public class CacheDownloader
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheDownloader.class);
+
+	private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final Store store;
+	private final List<CacheClient> clients;
+	private final int workerThreads;
+	private final int maxPending;
+	private final DownloadWatcher watcher;
+
+	private int nextClient;
+	private Stopwatch stopwatch;
+	private final AtomicInteger archives = new AtomicInteger();
+	private final AtomicInteger failures = new AtomicInteger();
+	private final AtomicLong bytes = new AtomicLong();
+	private final AtomicLong lastReport = new AtomicLong();
+
+	/**
+	 * @param store store to download to
+	 * @param clients connected clients to download with. Requests are spread
+	 * over all of the clients.
+	 * @param workerThreads number of threads to check and write archives with
+	 * @param maxPending maximum number of archives which may be requested or
+	 * downloaded but not yet written, after which requesting blocks
+	 * @param watcher watcher to pass downloaded archives to instead of writing
+	 * them to storage, may be null
+	 */
+	public CacheDownloader(Store store, List<CacheClient> clients, int workerThreads, int maxPending, DownloadWatcher watcher)
+	{
+		Preconditions.checkArgument(!clients.isEmpty(), "no clients");
+		Preconditions.checkArgument(workerThreads > 0);
+		Preconditions.checkArgument(maxPending > 0);
+
+		this.store = store;
+		this.clients = clients;
+		this.workerThreads = workerThreads;
+		this.maxPending = maxPending;
+		this.watcher = watcher;
+	}
+
+	/**
+	 * Download every out of date archive
+	 *
+	 * @throws IOException if any index or archive failed to download, fail
+	 * its crc check, or be written. The store must not be saved in this case.
+	 */
+	public void download() throws IOException
+	{
+		stopwatch = Stopwatch.createStarted();
+
+		ExecutorService executor = Executors.newFixedThreadPool(workerThreads, new ThreadFactoryBuilder()
+			.setNameFormat("cache-downloader-%d")
+			.build());
+		Semaphore pending = new Semaphore(maxPending);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		try
+		{
+			List<IndexInfo> indexes = clients.get(0).requestIndexes();
+
+			// request the data of every index up front
+			List<CompletableFuture<FileResult>> indexFutures = new ArrayList<>(indexes.size());
+			for (IndexInfo indexInfo : indexes)
+			{
+				indexFutures.add(nextClient().requestFile(255, indexInfo.getId(), false));
+			}
+			flush();
+
+			for (int i = 0; i < indexes.size(); ++i)
+			{
+				IndexInfo indexInfo = indexes.get(i);
+				FileResult indexFileResult = CacheClient.join(indexFutures.get(i));
+
+				List<Archive> updated = updateIndex(indexInfo, indexFileResult);
+				if (updated == null)
+				{
+					failures.incrementAndGet();
+					continue;
+				}
+
+				for (Archive archive : updated)
+				{
+					if (!pending.tryAcquire())
+					{
+						// the responses which free up permits can't
+						// arrive until the requests are sent
+						flush();
+						pending.acquireUninterruptibly();
+					}
+
+					CompletableFuture<FileResult> future = nextClient().requestFile(archive.getIndex().getId(), archive.getArchiveId(), false);
+					futures.add(future
+						.thenAcceptAsync(fr -> archiveDownloaded(archive, fr), executor)
+						.whenComplete((v, ex) -> pending.release()));
+				}
+			}
+
+			flush();
+
+			for (CompletableFuture<Void> future : futures)
+			{
+				try
+				{
+					future.join();
+				}
+				catch (CompletionException ex)
+				{
+					logger.warn("error processing downloaded archive", ex.getCause());
+					failures.incrementAndGet();
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		stopwatch.stop();
+		report();
+
+		long seconds = Math.max(1, stopwatch.elapsed(TimeUnit.SECONDS));
+		logger.info("Download completed in {}: {} archives, {} bytes ({} KB/s), {} failures",
+			stopwatch, archives.get(), bytes.get(), bytes.get() / 1024 / seconds, failures.get());
+
+		if (failures.get() > 0)
+		{
+			// the store has the new crcs and revisions of archives which were not downloaded
+			throw new IOException(failures.get() + " downloads failed");
+		}
+	}
+
+	/**
+	 * Update an index from its downloaded index data
+	 *
+	 * @return the archives of the index which are out of date, or null if
+	 * the index data is corrupt
+	 */
+	private List<Archive> updateIndex(IndexInfo indexInfo, FileResult indexFileResult) throws IOException
+	{
+		int i = indexInfo.getId();
+		int crc = indexInfo.getCrc();
+		int revision = indexInfo.getRevision();
+
+		Index index = store.findIndex(i);
+
+		if (index == null)
+		{
+			logger.info("Index {} does not exist, creating", i);
+		}
+		else if (index.getRevision() != revision)
+		{
+			if (revision < index.getRevision())
+			{
+				logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+			else
+			{
+				logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+		}
+		else if (index.getCrc() != crc)
+		{
+			logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
+				index.getId(), index.getCrc(), crc);
+		}
+		else
+		{
+			// despite the index being up to date, not everything
+			// can be downloaded, eg. for tracks.
+			logger.info("Index {} is up to date", index.getId());
+		}
+
+		indexFileResult.decompress(null);
+
+		logger.info("Downloaded index {}", i);
+
+		if (indexFileResult.getCrc() != crc)
+		{
+			logger.warn("Corrupted download for index {}", i);
+			return null;
+		}
+
+		IndexData indexData = new IndexData();
+		indexData.load(indexFileResult.getContents());
+
+		if (index == null)
+		{
+			index = store.addIndex(i);
+		}
+
+		// update index settings
+		index.setProtocol(indexData.getProtocol());
+		index.setNamed(indexData.isNamed());
+		index.setCrc(crc);
+		index.setRevision(revision);
+
+		logger.info("Index {} has {} archives", i, indexData.getArchives().length);
+
+		List<Archive> updated = new ArrayList<>();
+		for (ArchiveData ad : indexData.getArchives())
+		{
+			Archive existing = index.getArchive(ad.getId());
+
+			if (existing != null && existing.getRevision() == ad.getRevision()
+				&& existing.getCrc() == ad.getCrc()
+				&& existing.getNameHash() == ad.getNameHash())
+			{
+				logger.debug("Archive {}/{} in index {} is up to date",
+					ad.getId(), indexData.getArchives().length, index.getId());
+				continue;
+			}
+
+			if (existing == null)
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading",
+					ad.getId(), indexData.getArchives().length, index.getId());
+			}
+			else if (ad.getRevision() < existing.getRevision())
+			{
+				logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
+					ad.getId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), ad.getRevision());
+			}
+			else
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading. " +
+						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
+					ad.getId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), ad.getRevision(),
+					existing.getCrc(), ad.getCrc(),
+					existing.getNameHash(), ad.getNameHash());
+			}
+
+			final Archive archive = existing == null
+				? index.addArchive(ad.getId())
+				: existing;
+
+			archive.setRevision(ad.getRevision());
+			archive.setCrc(ad.getCrc());
+			archive.setNameHash(ad.getNameHash());
+
+			// Add files
+			archive.setFileData(ad.getFiles());
+
+			updated.add(archive);
+		}
+
+		return updated;
+	}
+
+	private void archiveDownloaded(Archive archive, FileResult fr)
+	{
+		byte[] data = fr.getCompressedData();
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
+
+		if (hash != archive.getCrc())
+		{
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				archive.getIndex().getId(), archive.getArchiveId(),
+				hash, archive.getCrc());
+			failures.incrementAndGet();
+			return;
+		}
+
+		if (watcher != null)
+		{
+			watcher.downloadComplete(archive, data);
+		}
+		else
+		{
+			Storage storage = store.getStorage();
+			try
+			{
+				// storages are not required to be thread safe
+				synchronized (storage)
+				{
+					storage.saveArchive(archive, data);
+				}
+			}
+			catch (IOException ex)
+			{
+				logger.warn("unable to save archive data", ex);
+				failures.incrementAndGet();
+				return;
+			}
+		}
+
+		archives.incrementAndGet();
+		bytes.addAndGet(data.length);
+
+		long now = System.nanoTime();
+		long last = lastReport.get();
+		if (now - last >= REPORT_INTERVAL && lastReport.compareAndSet(last, now))
+		{
+			report();
+		}
+	}
+
+	private void report()
+	{
+		if (watcher != null)
+		{
+			watcher.downloadProgress(archives.get(), bytes.get(), Duration.ofNanos(stopwatch.elapsed(TimeUnit.NANOSECONDS)));
+		}
+	}
+
+	private CacheClient nextClient()
+	{
+		CacheClient client = clients.get(nextClient);
+		nextClient = (nextClient + 1) % clients.size();
+		return client;
+	}
+
+	private void flush()
+	{
+		for (CacheClient client : clients)
+		{
+			client.flush();
+		}
+	}
+
+	public int getArchives()
+	{
+		return archives.get();
+	}
+
+	public int getFailures()
+	{
+		return failures.get();
+	}
+
+	public long getBytes()
+	{
+		return bytes.get();
+	}
+}
@@ -24,10 +24,22 @@
  */
 package net.runelite.cache.client;
 
+import java.time.Duration;
 import net.runelite.cache.fs.Archive;
 
 @FunctionalInterface
 public interface DownloadWatcher
 {
 	void downloadComplete(Archive archive, byte[] data);
+
+	/**
+	 * Called periodically during a download, and once when it finishes
+	 *
+	 * @param archives number of archives downloaded so far
+	 * @param bytes number of compressed bytes downloaded so far
+	 * @param elapsed time since the download started
+	 */
+	default void downloadProgress(int archives, long bytes, Duration elapsed)
+	{
+	}
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDownloaderTest
+{
+	private static final int CONNECTIONS = 3;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testDownload() throws Exception
+	{
+		File sourceFolder = folder.newFolder();
+		createStore(sourceFolder);
+
+		try (Store source = new Store(sourceFolder);
+			Store dest = new Store(folder.newFolder()))
+		{
+			source.load();
+
+			AtomicInteger progressArchives = new AtomicInteger();
+			DownloadWatcher watcher = new DownloadWatcher()
+			{
+				@Override
+				public void downloadComplete(Archive archive, byte[] data)
+				{
+					try
+					{
+						synchronized (dest)
+						{
+							dest.getStorage().saveArchive(archive, data);
+						}
+					}
+					catch (IOException ex)
+					{
+						throw new RuntimeException(ex);
+					}
+				}
+
+				@Override
+				public void downloadProgress(int archives, long bytes, Duration elapsed)
+				{
+					progressArchives.set(archives);
+				}
+			};
+
+			List<CacheClient> clients = new ArrayList<>();
+			try (UpdateServer server = new UpdateServer(source))
+			{
+				for (int i = 0; i < CONNECTIONS; ++i)
+				{
+					CacheClient client = new CacheClient(dest, "127.0.0.1", server.getPort(), 0);
+					client.connect();
+					assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+					clients.add(client);
+				}
+
+				CacheDownloader downloader = new CacheDownloader(dest, clients, 2, 8, watcher);
+				downloader.download();
+
+				assertEquals(0, downloader.getFailures());
+				assertEquals(progressArchives.get(), downloader.getArchives());
+			}
+			finally
+			{
+				for (CacheClient client : clients)
+				{
+					client.close();
+				}
+			}
+
+			assertEquals(source, dest);
+
+			for (Index index : source.getIndexes())
+			{
+				Index destIndex = dest.findIndex(index.getId());
+				for (Archive archive : index.getArchives())
+				{
+					Archive destArchive = destIndex.getArchive(archive.getArchiveId());
+					assertEquals(archive.getCrc(), destArchive.getCrc());
+
+					byte[] expected = archive.decompress(source.getStorage().loadArchive(archive));
+					byte[] actual = destArchive.decompress(dest.getStorage().loadArchive(destArchive));
+					assertArrayEquals(expected, actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRequestWindow() throws Exception
+	{
+		File sourceFolder = folder.newFolder();
+		createStore(sourceFolder);
+
+		try (Store source = new Store(sourceFolder);
+			Store dest = new Store(folder.newFolder()))
+		{
+			source.load();
+
+			try (UpdateServer server = new UpdateServer(source);
+				CacheClient client = new CacheClient(dest, "127.0.0.1", server.getPort(), 0))
+			{
+				client.connect();
+				assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+
+				// wider than the default window, and wider than the number of archives
+				client.setMaxRequests(128);
+
+				Index index = source.findIndex(0);
+				List<CompletableFuture<FileResult>> futures = new ArrayList<>();
+				for (Archive archive : index.getArchives())
+				{
+					futures.add(client.requestFile(0, archive.getArchiveId(), false));
+				}
+
+				// a request for an archive which is already in flight shares its future
+				assertSame(futures.get(0), client.requestFile(0, 0, false));
+
+				client.flush();
+
+				for (Archive archive : index.getArchives())
+				{
+					FileResult result = futures.get(archive.getArchiveId()).join();
+					assertEquals(archive.getArchiveId(), result.getFileId());
+					result.decompress(null);
+
+					byte[] expected = archive.decompress(source.getStorage().loadArchive(archive));
+					assertArrayEquals(expected, result.getContents());
+				}
+			}
+		}
+	}
+
+	@Test(timeout = 30_000)
+	public void testCorruptArchive() throws Exception
+	{
+		File sourceFolder = folder.newFolder();
+		createStore(sourceFolder);
+
+		try (Store source = new Store(sourceFolder);
+			Store dest = new Store(folder.newFolder()))
+		{
+			source.load();
+
+			try (UpdateServer server = new UpdateServer(source);
+				CacheClient client = new CacheClient(dest, "127.0.0.1", server.getPort(), 0))
+			{
+				server.corrupt(1, 42);
+
+				client.connect();
+				assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+
+				CacheDownloader downloader = new CacheDownloader(dest, Collections.singletonList(client), 2, 8, null);
+				try
+				{
+					downloader.download();
+					fail("download with a corrupt archive should fail");
+				}
+				catch (IOException ex)
+				{
+					// the other archives are still downloaded
+					assertEquals(1, downloader.getFailures());
+					assertEquals(199, downloader.getArchives());
+				}
+			}
+		}
+	}
+
+	@Test(timeout = 30_000, expected = IOException.class)
+	public void testDisconnect() throws Exception
+	{
+		File sourceFolder = folder.newFolder();
+		createStore(sourceFolder);
+
+		try (Store source = new Store(sourceFolder);
+			Store dest = new Store(folder.newFolder()))
+		{
+			source.load();
+
+			List<CacheClient> clients = new ArrayList<>();
+			try (UpdateServer server = new UpdateServer(source))
+			{
+				// one of the connections is dropped part way through the download
+				server.closeOn(0, 50);
+
+				for (int i = 0; i < CONNECTIONS; ++i)
+				{
+					CacheClient client = new CacheClient(dest, "127.0.0.1", server.getPort(), 0);
+					client.connect();
+					assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+					clients.add(client);
+				}
+
+				new CacheDownloader(dest, clients, 2, 8, null).download();
+			}
+			finally
+			{
+				for (CacheClient client : clients)
+				{
+					client.close();
+				}
+			}
+		}
+	}
+
+	private static void createStore(File folder) throws IOException
+	{
+		Random random = new Random(42L);
+
+		try (Store store = new Store(folder))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(i + 1);
+
+				for (int j = 0; j < 100; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					archive.setRevision(j);
+					archive.setNameHash(random.nextInt());
+
+					FileData fileData = new FileData();
+					archive.setFileData(new FileData[]
+					{
+						fileData
+					});
+
+					// some archives span multiple response chunks
+					byte[] data = new byte[random.nextInt(2048) + 1];
+					random.nextBytes(data);
+
+					Container container = new Container(j % 2 == 0 ? CompressionType.GZ : CompressionType.NONE, archive.getRevision());
+					container.compress(data, null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+
+			store.save();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.decoders.UpdateOpcodes;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+
+/**
+ * A minimal update server serving archives from a disk store, for testing
+ * the cache client
+ */
+class UpdateServer implements AutoCloseable
+{
+	private final Store store;
+	private final EventLoopGroup group = new NioEventLoopGroup(1);
+	private final Channel channel;
+	// index << 16 | archive of requests to answer with corrupt data, or to close the connection on
+	private volatile int corruptRequest = -1;
+	private volatile int closeRequest = -1;
+
+	UpdateServer(Store store)
+	{
+		this.store = store;
+
+		ServerBootstrap b = new ServerBootstrap();
+		b.group(group)
+			.channel(NioServerSocketChannel.class)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				public void initChannel(SocketChannel ch)
+				{
+					ch.pipeline().addLast(
+						new RequestDecoder(),
+						new HandshakeResponseEncoder(),
+						new ArchiveResponseEncoder(),
+						new RequestHandler()
+					);
+				}
+			});
+
+		channel = b.bind("127.0.0.1", 0).syncUninterruptibly().channel();
+	}
+
+	/**
+	 * Flip a bit in the response to requests for the given archive
+	 */
+	void corrupt(int index, int archive)
+	{
+		corruptRequest = index << 16 | archive;
+	}
+
+	/**
+	 * Close the connection instead of answering requests for the given archive
+	 */
+	void closeOn(int index, int archive)
+	{
+		closeRequest = index << 16 | archive;
+	}
+
+	int getPort()
+	{
+		return ((InetSocketAddress) channel.localAddress()).getPort();
+	}
+
+	@Override
+	public void close()
+	{
+		channel.close().syncUninterruptibly();
+		group.shutdownGracefully();
+	}
+
+	private byte[] read(int index, int archiveId) throws IOException
+	{
+		DiskStorage storage = (DiskStorage) store.getStorage();
+		byte[] data;
+		if (index == 255 && archiveId == 255)
+		{
+			ByteBuf buf = Unpooled.buffer();
+			for (Index i : store.getIndexes())
+			{
+				buf.writeInt(i.getCrc());
+				buf.writeInt(i.getRevision());
+			}
+
+			byte[] indexes = new byte[buf.readableBytes()];
+			buf.readBytes(indexes);
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress(indexes, null);
+			return container.data;
+		}
+		else if (index == 255)
+		{
+			data = storage.readIndex(archiveId);
+		}
+		else
+		{
+			Archive archive = store.findIndex(index).getArchive(archiveId);
+			data = storage.loadArchive(archive);
+		}
+
+		// the archive revision is not sent
+		int compression = data[0];
+		int compressedLength = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16)
+			| ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+		int length = 5 + compressedLength + (compression != CompressionType.NONE ? 4 : 0);
+		byte[] trimmed = new byte[length];
+		System.arraycopy(data, 0, trimmed, 0, length);
+		return trimmed;
+	}
+
+	private static class RequestDecoder extends ByteToMessageDecoder
+	{
+		private boolean handshaken;
+
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out)
+		{
+			if (!handshaken)
+			{
+				if (in.readableBytes() < 5)
+				{
+					return;
+				}
+
+				in.readByte();
+				out.add(new UpdateHandshakePacket(in.readInt()));
+				handshaken = true;
+				return;
+			}
+
+			if (in.readableBytes() < 4)
+			{
+				return;
+			}
+
+			int opcode = in.readUnsignedByte();
+			if (opcode == UpdateOpcodes.ARCHIVE_REQUEST_LOW || opcode == UpdateOpcodes.ARCHIVE_REQUEST_HIGH)
+			{
+				ArchiveRequestPacket request = new ArchiveRequestPacket();
+				request.setPriority(opcode == UpdateOpcodes.ARCHIVE_REQUEST_HIGH);
+				request.setIndex(in.readUnsignedByte());
+				request.setArchive(in.readUnsignedShort());
+				out.add(request);
+			}
+			else
+			{
+				// encryption and login state packets
+				in.skipBytes(3);
+			}
+		}
+	}
+
+	private class RequestHandler extends SimpleChannelInboundHandler<Object>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, Object msg) throws Exception
+		{
+			if (msg instanceof UpdateHandshakePacket)
+			{
+				HandshakeResponsePacket response = new HandshakeResponsePacket();
+				response.setResponse(HandshakeResponseType.RESPONSE_OK);
+				ctx.writeAndFlush(response);
+			}
+			else if (msg instanceof ArchiveRequestPacket)
+			{
+				ArchiveRequestPacket request = (ArchiveRequestPacket) msg;
+				int key = request.getIndex() << 16 | request.getArchive();
+				if (key == closeRequest)
+				{
+					ctx.close();
+					return;
+				}
+
+				byte[] data = read(request.getIndex(), request.getArchive());
+				if (key == corruptRequest)
+				{
+					data[data.length - 1] ^= 1;
+				}
+
+				ArchiveResponsePacket response = new ArchiveResponsePacket();
+				response.setIndex(request.getIndex());
+				response.setArchive(request.getArchive());
+				response.setData(data);
+				ctx.writeAndFlush(response);
+			}
+		}
+	}
+}
@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.util.List;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.Query;
@@ -36,9 +37,7 @@ import org.sql2o.ResultSetIterable;
 class CacheDAO
 {
 	// cache prepared statements for high volume queries
-	private Query associateArchive;
-	private Query findArchive, insertArchive;
-	private Query associateFile;
+	private Query findArchive;
 
 	public CacheEntry findMostRecent(Connection con)
 	{
@@ -63,6 +62,12 @@ class CacheDAO
 			.executeAndFetchLazy(ArchiveEntry.class);
 	}
 
+	public List<byte[]> findArchiveHashes(Connection con)
+	{
+		return con.createQuery("select distinct hash from archive where hash is not null")
+			.executeScalarList(byte[].class);
+	}
+
 	public CacheEntry createCache(Connection con, int revision, Instant date)
 	{
 		int cacheId = con.createQuery("insert into cache (revision, date) values (:revision, :date)")
@@ -96,16 +101,22 @@ class CacheDAO
 		return entry;
 	}
 
-	public void associateArchiveToIndex(Connection con, ArchiveEntry archive, IndexEntry index)
+	public void associateArchivesToIndex(Connection con, List<ArchiveEntry> archives, IndexEntry index)
 	{
-		if (associateArchive == null)
+		if (archives.isEmpty())
 		{
-			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
+			return;
 		}
-		associateArchive
-			.addParameter("index", index.getId())
-			.addParameter("archive", archive.getId())
-			.executeUpdate();
+
+		Query query = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
+		for (ArchiveEntry archive : archives)
+		{
+			query
+				.addParameter("index", index.getId())
+				.addParameter("archive", archive.getId())
+				.addToBatch();
+		}
+		query.executeBatch();
 	}
 
 	public ArchiveEntry findArchive(Connection con, IndexEntry index,
@@ -134,44 +145,59 @@ class CacheDAO
 		return entry;
 	}
 
-	public ArchiveEntry createArchive(Connection con, IndexEntry index,
-		int archiveId, int nameHash, int crc, int revision, byte[] hash)
+	/**
+	 * Inserts the given archives in a single batch, assigning each
+	 * entry the id generated for it.
+	 */
+	public void createArchives(Connection con, List<ArchiveEntry> archives)
 	{
-		if (insertArchive == null)
+		if (archives.isEmpty())
 		{
-			insertArchive = con.createQuery("insert into archive (archiveId, nameHash, crc, revision, hash) values "
-				+ "(:archiveId, :nameHash, :crc, :revision, :hash)");
+			return;
 		}
 
-		int id = insertArchive
-			.addParameter("archiveId", archiveId)
-			.addParameter("nameHash", nameHash)
-			.addParameter("crc", crc)
-			.addParameter("revision", revision)
-			.addParameter("hash", hash)
-			.executeUpdate()
-			.getKey(int.class);
+		Query query = con.createQuery("insert into archive (archiveId, nameHash, crc, revision, hash) values "
+			+ "(:archiveId, :nameHash, :crc, :revision, :hash)", true);
+		for (ArchiveEntry archive : archives)
+		{
+			query
+				.addParameter("archiveId", archive.getArchiveId())
+				.addParameter("nameHash", archive.getNameHash())
+				.addParameter("crc", archive.getCrc())
+				.addParameter("revision", archive.getRevision())
+				.addParameter("hash", archive.getHash())
+				.addToBatch();
+		}
+		query.executeBatch();
 
-		ArchiveEntry entry = new ArchiveEntry();
-		entry.setId(id);
-		entry.setArchiveId(archiveId);
-		entry.setNameHash(nameHash);
-		entry.setCrc(crc);
-		entry.setRevision(revision);
-		entry.setHash(hash);
-		return entry;
+		List<Integer> keys = con.getKeys(Integer.class);
+		if (keys.size() != archives.size())
+		{
+			throw new IllegalStateException("Inserted " + archives.size() + " archives but got " + keys.size() + " keys");
+		}
+
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			archives.get(i).setId(keys.get(i));
+		}
 	}
 
-	public void associateFileToArchive(Connection con, ArchiveEntry archive, int fileId, int nameHash)
+	public void associateFilesToArchives(Connection con, List<FileEntry> files)
 	{
-		if (associateFile == null)
+		if (files.isEmpty())
 		{
-			associateFile = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
+			return;
 		}
-		associateFile
-			.addParameter("archive", archive.getId())
-			.addParameter("fileId", fileId)
-			.addParameter("nameHash", nameHash)
-			.executeUpdate();
+
+		Query query = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
+		for (FileEntry file : files)
+		{
+			query
+				.addParameter("archive", file.getArchiveId())
+				.addParameter("fileId", file.getFileId())
+				.addParameter("nameHash", file.getNameHash())
+				.addToBatch();
+		}
+		query.executeBatch();
 	}
 }
@@ -25,7 +25,10 @@
 package net.runelite.cache.updater;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -33,6 +36,7 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
@@ -41,7 +45,9 @@ public class CacheStorage implements Storage
 {
 	private CacheEntry cacheEntry;
 	private final CacheDAO cacheDao;
-	private final Connection con;
+	private Connection con;
+	// rows of the archives read by load(), so unchanged archives can be reused on save
+	private final Map<Archive, ArchiveEntry> loaded = new IdentityHashMap<>();
 
 	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con)
 	{
@@ -60,6 +66,16 @@ public class CacheStorage implements Storage
 		this.cacheEntry = cacheEntry;
 	}
 
+	/**
+	 * Sets the connection used by subsequent loads and saves. This allows
+	 * the previous cache to be read without holding a transaction open
+	 * while the new one is downloaded.
+	 */
+	public void setConnection(Connection con)
+	{
+		this.con = con;
+	}
+
 	@Override
 	public void init(Store store) throws IOException
 	{
@@ -73,6 +89,11 @@ public class CacheStorage implements Storage
 	@Override
 	public void load(Store store) throws IOException
 	{
+		if (cacheEntry == null)
+		{
+			return; // nothing to load
+		}
+
 		List<IndexEntry> indexes = cacheDao.findIndexesForCache(con, cacheEntry);
 		for (IndexEntry indexEntry : indexes)
 		{
@@ -94,6 +115,7 @@ public class CacheStorage implements Storage
 					archive.setCrc(archiveEntry.getCrc());
 					archive.setRevision(archiveEntry.getRevision());
 					archive.setHash(archiveEntry.getHash());
+					loaded.put(archive, archiveEntry);
 
 					// File data is not necessary for cache updating
 				}
@@ -108,24 +130,57 @@ public class CacheStorage implements Storage
 		{
 			IndexEntry entry = cacheDao.createIndex(con, cacheEntry, index.getId(), index.getCrc(), index.getRevision());
 
+			List<ArchiveEntry> archiveEntries = new ArrayList<>(index.getArchives().size());
+			List<ArchiveEntry> created = new ArrayList<>();
+			List<Archive> createdArchives = new ArrayList<>();
+
 			for (Archive archive : index.getArchives())
 			{
-				ArchiveEntry archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
-					archive.getNameHash(), archive.getCrc(), archive.getRevision());
-				if (archiveEntry == null)
+				ArchiveEntry archiveEntry = loaded.get(archive);
+				if (archiveEntry == null
+					|| archiveEntry.getNameHash() != archive.getNameHash()
+					|| archiveEntry.getCrc() != archive.getCrc()
+					|| archiveEntry.getRevision() != archive.getRevision())
 				{
-					byte[] hash = archive.getHash();
-					archiveEntry = cacheDao.createArchive(con, entry, archive.getArchiveId(),
-						archive.getNameHash(), archive.getCrc(), archive.getRevision(), hash);
+					// changed since the last cache, but may match an older one
+					archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
+						archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				}
 
-					for (FileData file : archive.getFileData())
-					{
-						cacheDao.associateFileToArchive(con, archiveEntry, file.getId(), file.getNameHash());
-					}
+				if (archiveEntry == null)
+				{
+					archiveEntry = new ArchiveEntry();
+					archiveEntry.setArchiveId(archive.getArchiveId());
+					archiveEntry.setNameHash(archive.getNameHash());
+					archiveEntry.setCrc(archive.getCrc());
+					archiveEntry.setRevision(archive.getRevision());
+					archiveEntry.setHash(archive.getHash());
+
+					created.add(archiveEntry);
+					createdArchives.add(archive);
 				}
 
-				cacheDao.associateArchiveToIndex(con, archiveEntry, entry);
+				archiveEntries.add(archiveEntry);
+			}
+
+			cacheDao.createArchives(con, created);
+
+			List<FileEntry> files = new ArrayList<>();
+			for (int i = 0; i < created.size(); ++i)
+			{
+				ArchiveEntry archiveEntry = created.get(i);
+				for (FileData fileData : createdArchives.get(i).getFileData())
+				{
+					FileEntry file = new FileEntry();
+					file.setArchiveId(archiveEntry.getId()); // archive row, not the archive id
+					file.setFileId(fileData.getId());
+					file.setNameHash(fileData.getNameHash());
+					files.add(file);
+				}
 			}
+
+			cacheDao.associateFilesToArchives(con, files);
+			cacheDao.associateArchivesToIndex(con, archiveEntries, entry);
 		}
 	}
 
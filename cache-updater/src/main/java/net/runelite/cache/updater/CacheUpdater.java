@@ -24,14 +24,19 @@
  */
 package net.runelite.cache.updater;
 
+import com.google.common.hash.HashCode;
 import io.minio.MinioClient;
 import io.minio.errors.InvalidEndpointException;
 import io.minio.errors.InvalidPortException;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import net.runelite.cache.client.CacheClient;
 import net.runelite.cache.client.IndexInfo;
@@ -57,6 +62,9 @@ public class CacheUpdater implements CommandLineRunner
 {
 	private static final Logger logger = LoggerFactory.getLogger(CacheUpdater.class);
 
+	private static final int UPLOAD_THREADS = 8;
+	private static final int UPLOAD_QUEUE = 64; // downloaded archives waiting to be uploaded
+
 	private final Sql2o sql2o;
 	private final MinioClient minioClient;
 
@@ -77,25 +85,46 @@ public class CacheUpdater implements CommandLineRunner
 	{
 		int rsVersion = RuneLiteAPI.getRsVersion();
 
-		try (Connection con = sql2o.beginTransaction())
+		CacheDAO cacheDao = new CacheDAO();
+		CacheStorage storage;
+		Store store;
+		List<IndexEntry> entries;
+		Set<HashCode> referenced = new HashSet<>();
+
+		// the previous cache is only read here, the transaction for the new
+		// cache is not opened until everything has been downloaded
+		try (Connection con = sql2o.open())
 		{
-			CacheDAO cacheDao = new CacheDAO();
 			CacheEntry cache = cacheDao.findMostRecent(con);
-			boolean created = false;
-			if (cache == null)
+
+			storage = new CacheStorage(cache, cacheDao, con);
+			store = new Store(storage);
+			store.load();
+
+			entries = cache != null ? cacheDao.findIndexesForCache(con, cache) : Collections.emptyList();
+
+			// objects referenced by the database are only likely to be in the store,
+			// the uploader confirms them before skipping an upload
+			for (byte[] hash : cacheDao.findArchiveHashes(con))
 			{
-				created = true;
-				cache = cacheDao.createCache(con, rsVersion, Instant.now());
+				referenced.add(HashCode.fromBytes(hash));
 			}
+		}
 
-			CacheStorage storage = new CacheStorage(cache, cacheDao, con);
-			Store store = new Store(storage);
-			store.load();
+		logger.info("Loaded previous cache, {} objects referenced", referenced.size());
 
-			ExecutorService executor = Executors.newSingleThreadExecutor();
+		UploadTracker tracker = new UploadTracker(referenced);
 
+		// when the queue is full the downloader uploads the archive itself, which
+		// keeps it from getting too far ahead of the store
+		ExecutorService executor = new ThreadPoolExecutor(UPLOAD_THREADS, UPLOAD_THREADS,
+			0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(UPLOAD_QUEUE),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+
+		try
+		{
 			CacheClient client = new CacheClient(store, rsVersion,
-				(Archive archive, byte[] data) -> executor.submit(new CacheUploader(minioClient, minioBucket, archive, data)));
+				(Archive archive, byte[] data) -> executor.execute(new CacheUploader(minioClient, minioBucket, tracker, archive, data)));
 
 			client.connect();
 			HandshakeResponseType result = client.handshake().join();
@@ -107,7 +136,6 @@ public class CacheUpdater implements CommandLineRunner
 			}
 
 			List<IndexInfo> indexes = client.requestIndexes();
-			List<IndexEntry> entries = cacheDao.findIndexesForCache(con, cache);
 
 			if (!checkOutOfDate(indexes, entries))
 			{
@@ -116,12 +144,9 @@ public class CacheUpdater implements CommandLineRunner
 			}
 
 			client.download();
-
-			CacheEntry newCache = created ? cache : cacheDao.createCache(con, rsVersion, Instant.now());
-
-			storage.setCacheEntry(newCache);
-			store.save();
-
+		}
+		finally
+		{
 			// ensure objects are added to the store before they become
 			// visible in the database
 			executor.shutdown();
@@ -129,6 +154,21 @@ public class CacheUpdater implements CommandLineRunner
 			{
 				logger.debug("Waiting for termination of executor...");
 			}
+		}
+
+		if (tracker.getFailures() > 0)
+		{
+			// the new cache would reference objects which are not in the store
+			throw new IOException(tracker.getFailures() + " objects failed to upload, not saving cache");
+		}
+
+		try (Connection con = sql2o.beginTransaction())
+		{
+			CacheEntry newCache = cacheDao.createCache(con, rsVersion, Instant.now());
+
+			storage.setConnection(con);
+			storage.setCacheEntry(newCache);
+			store.save();
 
 			// commit database
 			con.commit();
@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.updater;
 
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.BaseEncoding;
 import io.minio.MinioClient;
@@ -35,7 +36,6 @@ import io.minio.errors.InvalidBucketNameException;
 import io.minio.errors.NoResponseException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import net.runelite.cache.fs.Archive;
@@ -49,13 +49,15 @@ public class CacheUploader implements Runnable
 
 	private final MinioClient minioClient;
 	private final String minioBucket;
+	private final UploadTracker tracker;
 	private final Archive archive;
 	private final byte[] data;
 
-	public CacheUploader(MinioClient minioClient, String minioBucket, Archive archive, byte[] data)
+	public CacheUploader(MinioClient minioClient, String minioBucket, UploadTracker tracker, Archive archive, byte[] data)
 	{
 		this.minioClient = minioClient;
 		this.minioBucket = minioBucket;
+		this.tracker = tracker;
 		this.archive = archive;
 		this.data = data;
 	}
@@ -63,11 +65,17 @@ public class CacheUploader implements Runnable
 	@Override
 	public void run()
 	{
-		byte[] hash = Hashing.sha256().hashBytes(data).asBytes();
+		HashCode hashCode = Hashing.sha256().hashBytes(data);
+		byte[] hash = hashCode.asBytes();
 		String hashStr = BaseEncoding.base16().encode(hash);
 
 		archive.setHash(hash);
 
+		if (!tracker.claim(hashCode))
+		{
+			return; // being uploaded by another thread
+		}
+
 		String path = new StringBuilder()
 			.append(hashStr, 0, 2)
 			.append('/')
@@ -76,20 +84,31 @@ public class CacheUploader implements Runnable
 
 		try
 		{
-			try (InputStream in = minioClient.getObject(minioBucket, path))
+			// a hash from a previous cache only saves the upload once the object is confirmed to exist
+			if (tracker.isReferenced(hashCode) && exists(path))
 			{
-				return; // already exists
-			}
-			catch (ErrorResponseException ex)
-			{
-				// doesn't exist
+				return;
 			}
 
 			minioClient.putObject(minioBucket, path, new ByteArrayInputStream(data), data.length, "binary/octet-stream");
 		}
-		catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException ex)
+		catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException | RuntimeException ex)
 		{
 			logger.warn("unable to upload data to store", ex);
+			tracker.failed(hashCode);
+		}
+	}
+
+	private boolean exists(String path) throws InsufficientDataException, InternalException, InvalidArgumentException, InvalidBucketNameException, NoResponseException, IOException, InvalidKeyException, NoSuchAlgorithmException, XmlPullParserException
+	{
+		try
+		{
+			minioClient.statObject(minioBucket, path);
+			return true;
+		}
+		catch (ErrorResponseException ex)
+		{
+			return false; // doesn't exist
 		}
 	}
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import com.google.common.hash.HashCode;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which objects an update has put in the store, so that each blob
+ * is uploaded once and the update can be aborted if any upload failed.
+ */
+class UploadTracker
+{
+	// hashes referenced by previous caches, which are checked against the store before being skipped
+	private final Set<HashCode> referenced;
+	// hashes which an uploader has taken responsibility for during this update
+	private final Set<HashCode> claimed = ConcurrentHashMap.newKeySet();
+	private final Set<HashCode> failed = ConcurrentHashMap.newKeySet();
+
+	UploadTracker(Set<HashCode> referenced)
+	{
+		this.referenced = referenced;
+	}
+
+	/**
+	 * Claims the given hash for upload.
+	 *
+	 * @return false if another uploader has already claimed it
+	 */
+	boolean claim(HashCode hash)
+	{
+		return claimed.add(hash);
+	}
+
+	boolean isReferenced(HashCode hash)
+	{
+		return referenced.contains(hash);
+	}
+
+	void failed(HashCode hash)
+	{
+		failed.add(hash);
+	}
+
+	int getFailures()
+	{
+		return failed.size();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.updater.beans.ArchiveEntry;
+import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
+import net.runelite.cache.updater.beans.IndexEntry;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
+
+public class CacheStorageTest
+{
+	private CacheDAO cacheDao;
+	private Connection con;
+	private CacheEntry previous;
+
+	@Before
+	public void before()
+	{
+		cacheDao = mock(CacheDAO.class);
+		con = mock(Connection.class);
+
+		previous = new CacheEntry();
+		previous.setId(1);
+
+		IndexEntry indexEntry = new IndexEntry();
+		indexEntry.setId(10);
+		indexEntry.setIndexId(0);
+		when(cacheDao.findIndexesForCache(con, previous)).thenReturn(Arrays.asList(indexEntry));
+
+		List<ArchiveEntry> archives = Arrays.asList(
+			archiveEntry(100, 1, 1, new byte[]{1}),
+			archiveEntry(101, 2, 2, new byte[]{2})
+		);
+		@SuppressWarnings("unchecked")
+		ResultSetIterable<ArchiveEntry> iterable = mock(ResultSetIterable.class);
+		when(iterable.iterator()).thenReturn(archives.iterator());
+		when(cacheDao.findArchivesForIndex(con, indexEntry)).thenReturn(iterable);
+
+		IndexEntry newIndexEntry = new IndexEntry();
+		newIndexEntry.setId(11);
+		newIndexEntry.setIndexId(0);
+		when(cacheDao.createIndex(eq(con), any(CacheEntry.class), eq(0), anyInt(), anyInt())).thenReturn(newIndexEntry);
+	}
+
+	@Test
+	public void testSave() throws Exception
+	{
+		CacheStorage storage = new CacheStorage(previous, cacheDao, con);
+		Store store = new Store(storage);
+		store.load();
+
+		Index index = store.findIndex(0);
+
+		// archive 2 changed back to a version an older cache has
+		Archive changed = index.getArchive(2);
+		changed.setCrc(3);
+		changed.setHash(new byte[]{3});
+		ArchiveEntry older = archiveEntry(50, 2, 3, new byte[]{3});
+		when(cacheDao.findArchive(eq(con), any(IndexEntry.class), eq(2), anyInt(), eq(3), anyInt())).thenReturn(older);
+
+		// archive 3 is new and was uploaded
+		Archive added = index.addArchive(3);
+		added.setCrc(4);
+		added.setHash(new byte[]{4});
+		FileData fileData = new FileData();
+		fileData.setId(7);
+		added.setFileData(new FileData[]{fileData});
+
+		doAnswer(invocation ->
+		{
+			List<ArchiveEntry> created = invocation.getArgument(1);
+			for (ArchiveEntry entry : created)
+			{
+				entry.setId(200);
+			}
+			return null;
+		}).when(cacheDao).createArchives(eq(con), anyList());
+
+		CacheEntry next = new CacheEntry();
+		next.setId(2);
+		storage.setCacheEntry(next);
+		store.save();
+
+		// the unchanged archive reuses its row without a lookup
+		verify(cacheDao, never()).findArchive(any(Connection.class), any(IndexEntry.class), eq(1), anyInt(), anyInt(), anyInt());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ArchiveEntry>> created = ArgumentCaptor.forClass(List.class);
+		verify(cacheDao).createArchives(eq(con), created.capture());
+		assertEquals(1, created.getValue().size());
+		assertEquals(3, created.getValue().get(0).getArchiveId());
+		assertArrayEquals(new byte[]{4}, created.getValue().get(0).getHash());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<FileEntry>> files = ArgumentCaptor.forClass(List.class);
+		verify(cacheDao).associateFilesToArchives(eq(con), files.capture());
+		assertEquals(1, files.getValue().size());
+		assertEquals(200, files.getValue().get(0).getArchiveId());
+		assertEquals(7, files.getValue().get(0).getFileId());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ArchiveEntry>> associated = ArgumentCaptor.forClass(List.class);
+		verify(cacheDao).associateArchivesToIndex(eq(con), associated.capture(), any(IndexEntry.class));
+		assertEquals(3, associated.getValue().size());
+		assertEquals(100, associated.getValue().get(0).getId());
+		assertEquals(50, associated.getValue().get(1).getId());
+		assertEquals(200, associated.getValue().get(2).getId());
+	}
+
+	private static ArchiveEntry archiveEntry(int id, int archiveId, int crc, byte[] hash)
+	{
+		ArchiveEntry entry = new ArchiveEntry();
+		entry.setId(id);
+		entry.setArchiveId(archiveId);
+		entry.setCrc(crc);
+		entry.setRevision(1);
+		entry.setHash(hash);
+		return entry;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.minio.MinioClient;
+import io.minio.errors.ErrorResponseException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CacheUploaderTest
+{
+	private static final String BUCKET = "runelite";
+	private static final byte[] DATA = new byte[]{1, 2, 3, 4};
+	private static final HashCode HASH = Hashing.sha256().hashBytes(DATA);
+
+	private MinioClient minioClient;
+	private Archive archive;
+
+	@Before
+	public void before()
+	{
+		minioClient = mock(MinioClient.class);
+		archive = new Index(0).addArchive(0);
+	}
+
+	@Test
+	public void testUpload() throws Exception
+	{
+		UploadTracker tracker = new UploadTracker(Collections.emptySet());
+
+		new CacheUploader(minioClient, BUCKET, tracker, archive, DATA).run();
+
+		assertArrayEquals(HASH.asBytes(), archive.getHash());
+		verify(minioClient, never()).statObject(anyString(), anyString());
+		verify(minioClient).putObject(eq(BUCKET), eq(path()), any(InputStream.class), eq((long) DATA.length), anyString());
+		assertEquals(0, tracker.getFailures());
+	}
+
+	@Test
+	public void testReferencedInStore() throws Exception
+	{
+		UploadTracker tracker = new UploadTracker(Collections.singleton(HASH));
+
+		new CacheUploader(minioClient, BUCKET, tracker, archive, DATA).run();
+
+		// the archive is associated with the existing object
+		assertArrayEquals(HASH.asBytes(), archive.getHash());
+		verify(minioClient).statObject(BUCKET, path());
+		verify(minioClient, never()).putObject(anyString(), anyString(), any(InputStream.class), anyLong(), anyString());
+		assertEquals(0, tracker.getFailures());
+	}
+
+	@Test
+	public void testReferencedMissing() throws Exception
+	{
+		UploadTracker tracker = new UploadTracker(Collections.singleton(HASH));
+		when(minioClient.statObject(BUCKET, path())).thenThrow(ErrorResponseException.class);
+
+		new CacheUploader(minioClient, BUCKET, tracker, archive, DATA).run();
+
+		verify(minioClient).putObject(eq(BUCKET), eq(path()), any(InputStream.class), eq((long) DATA.length), anyString());
+		assertEquals(0, tracker.getFailures());
+	}
+
+	@Test
+	public void testUploadFailure() throws Exception
+	{
+		UploadTracker tracker = new UploadTracker(Collections.emptySet());
+		doThrow(IOException.class).when(minioClient)
+			.putObject(anyString(), anyString(), any(InputStream.class), anyLong(), anyString());
+
+		new CacheUploader(minioClient, BUCKET, tracker, archive, DATA).run();
+
+		assertEquals(1, tracker.getFailures());
+	}
+
+	@Test
+	public void testDuplicate() throws Exception
+	{
+		UploadTracker tracker = new UploadTracker(Collections.emptySet());
+		Archive other = new Index(1).addArchive(0);
+
+		new CacheUploader(minioClient, BUCKET, tracker, archive, DATA).run();
+		new CacheUploader(minioClient, BUCKET, tracker, other, DATA).run();
+
+		assertArrayEquals(HASH.asBytes(), other.getHash());
+		verify(minioClient, times(1)).putObject(anyString(), anyString(), any(InputStream.class), anyLong(), anyString());
+	}
+
+	private static String path()
+	{
+		String hashStr = HASH.toString().toUpperCase();
+		return hashStr.substring(0, 2) + "/" + hashStr.substring(2);
+	}
+}
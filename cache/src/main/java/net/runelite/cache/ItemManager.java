@@ -61,11 +61,11 @@ public class ItemManager implements ItemProvider
 		Archive archive = index.getArchive(ConfigType.ITEM.getId());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFiles(archiveData, null, true);
 
 		for (FSFile f : files.getFiles())
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
+			ItemDefinition def = loader.load(f.getFileId(), f.getStream());
 			items.put(f.getFileId(), def);
 		}
 	}
@@ -60,11 +60,11 @@ public class NpcManager
 		Archive archive = index.getArchive(ConfigType.NPC.getId());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFiles(archiveData, null, true);
 
 		for (FSFile f : files.getFiles())
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
+			NpcDefinition npc = loader.load(f.getFileId(), f.getStream());
 			npcs.put(f.getFileId(), npc);
 		}
 	}
@@ -60,11 +60,11 @@ public class ObjectManager
 		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFiles(archiveData, null, true);
 
 		for (FSFile f : files.getFiles())
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
+			ObjectDefinition def = loader.load(f.getFileId(), f.getStream());
 			objects.put(f.getFileId(), def);
 		}
 	}
@@ -41,12 +41,13 @@ public class TextureDefinition
 	public int field1782;
 	public int field1783;
 
-	public transient int[] pixels;
+	public transient volatile int[] pixels;
 
 	public boolean method2680(double var1, int var3, SpriteProvider spriteProvider)
 	{
 		int var5 = var3 * var3;
-		this.pixels = new int[var5];
+		// textures may be shared between threads, so only publish the pixels once filled
+		int[] pixels = new int[var5];
 
 		for (int var6 = 0; var6 < this.fileIds.length; ++var6)
 		{
@@ -96,7 +97,7 @@ public class TextureDefinition
 				{
 					for (var12 = 0; var12 < var5; ++var12)
 					{
-						this.pixels[var12] = var9[var8[var12] & 255];
+						pixels[var12] = var9[var8[var12] & 255];
 					}
 				}
 				else if (var7.getMaxWidth() == 64 && var3 == 128)
@@ -107,7 +108,7 @@ public class TextureDefinition
 					{
 						for (var14 = 0; var14 < var3; ++var14)
 						{
-							this.pixels[var12++] = var9[var8[(var13 >> 1 << 6) + (var14 >> 1)] & 255];
+							pixels[var12++] = var9[var8[(var13 >> 1 << 6) + (var14 >> 1)] & 255];
 						}
 					}
 				}
@@ -124,13 +125,14 @@ public class TextureDefinition
 					{
 						for (var14 = 0; var14 < var3; ++var14)
 						{
-							this.pixels[var12++] = var9[var8[(var14 << 1) + (var13 << 1 << 7)] & 255];
+							pixels[var12++] = var9[var8[(var14 << 1) + (var13 << 1 << 7)] & 255];
 						}
 					}
 				}
 			}
 		}
 
+		this.pixels = pixels;
 		return true;
 	}
 
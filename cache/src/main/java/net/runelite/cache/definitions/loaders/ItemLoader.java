@@ -37,9 +37,13 @@ public class ItemLoader
 	private static final Logger logger = LoggerFactory.getLogger(ItemLoader.class);
 
 	public ItemDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public ItemDefinition load(int id, InputStream is)
 	{
 		ItemDefinition def = new ItemDefinition(id);
-		InputStream is = new InputStream(b);
 		
 		while (true)
 		{
@@ -35,9 +35,13 @@ public class NpcLoader
 	private static final Logger logger = LoggerFactory.getLogger(NpcLoader.class);
 
 	public NpcDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public NpcDefinition load(int id, InputStream is)
 	{
 		NpcDefinition def = new NpcDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -36,9 +36,13 @@ public class ObjectLoader
 	private static final Logger logger = LoggerFactory.getLogger(ObjectLoader.class);
 
 	public ObjectDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public ObjectDefinition load(int id, InputStream is)
 	{
 		ObjectDefinition def = new ObjectDefinition();
-		InputStream is = new InputStream(b);
 
 		def.setId(id);
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+
+/**
+ * Keeps recently used archive files from another provider, up to a total
+ * size, so that multiple definition providers reading from the same
+ * archive share one copy of its files.
+ */
+public class CachedArchiveFilesProvider implements ArchiveFilesProvider
+{
+	// rough size of a cache entry aside from the file contents
+	private static final int ENTRY_OVERHEAD = 64;
+
+	private final ArchiveFilesProvider provider;
+	private final LoadingCache<Long, Optional<ArchiveFiles>> archives;
+
+	/**
+	 * @param provider provider to load archive files from
+	 * @param maximumBytes maximum total size of the cached file contents
+	 */
+	public CachedArchiveFilesProvider(ArchiveFilesProvider provider, long maximumBytes)
+	{
+		this.provider = provider;
+		archives = CacheBuilder.newBuilder()
+			.maximumWeight(maximumBytes)
+			.<Long, Optional<ArchiveFiles>>weigher((key, files) -> ENTRY_OVERHEAD + files.map(CachedArchiveFilesProvider::size).orElse(0))
+			.build(new CacheLoader<Long, Optional<ArchiveFiles>>()
+			{
+				@Override
+				public Optional<ArchiveFiles> load(Long key) throws IOException
+				{
+					int indexId = (int) (key >>> 32);
+					int archiveId = (int) (long) key;
+					return Optional.ofNullable(provider.provide(indexId, archiveId));
+				}
+			});
+	}
+
+	@Override
+	public ArchiveFiles provide(int indexId, int archiveId) throws IOException
+	{
+		try
+		{
+			return archives.get(key(indexId, archiveId)).orElse(null);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Provide the files of an archive without adding them to the cache.
+	 * This is for archives which the caller keeps in another form, such as
+	 * a single decoded definition, so they do not evict shared archives.
+	 *
+	 * @param indexId
+	 * @param archiveId
+	 * @return the archive files, or null if the archive does not exist
+	 * @throws IOException
+	 */
+	public ArchiveFiles provideUncached(int indexId, int archiveId) throws IOException
+	{
+		Optional<ArchiveFiles> files = archives.getIfPresent(key(indexId, archiveId));
+		if (files != null)
+		{
+			return files.orElse(null);
+		}
+		return provider.provide(indexId, archiveId);
+	}
+
+	public void invalidateAll()
+	{
+		archives.invalidateAll();
+	}
+
+	private static long key(int indexId, int archiveId)
+	{
+		return (long) indexId << 32 | archiveId & 0xFFFFFFFFL;
+	}
+
+	private static int size(ArchiveFiles files)
+	{
+		int size = 0;
+		for (FSFile file : files.getFiles())
+		{
+			size += file.getSize();
+		}
+		return size;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded cache of decoded definitions, which are decoded on first use
+ *
+ * @param <T> definition type
+ */
+public class DefinitionCache<T>
+{
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		/**
+		 * Decode a definition
+		 *
+		 * @param id
+		 * @return the definition, or null if it does not exist
+		 * @throws IOException
+		 */
+		T decode(int id) throws IOException;
+	}
+
+	private final LoadingCache<Integer, Optional<T>> definitions;
+
+	public DefinitionCache(long maximumSize, Decoder<T> decoder)
+	{
+		definitions = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.build(new CacheLoader<Integer, Optional<T>>()
+			{
+				@Override
+				public Optional<T> load(Integer id) throws IOException
+				{
+					return Optional.ofNullable(decoder.decode(id));
+				}
+			});
+	}
+
+	public T get(int id) throws IOException
+	{
+		try
+		{
+			return definitions.get(id).orElse(null);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	public long size()
+	{
+		return definitions.size();
+	}
+
+	public void invalidateAll()
+	{
+		definitions.invalidateAll();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import java.io.IOException;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ItemProvider} which decodes items on demand. All items are in
+ * one archive, so it is read through a {@link CachedArchiveFilesProvider}
+ * rather than once per item.
+ * <p>
+ * The same definition is returned to every caller and must not be
+ * modified. Callers which modify items, such as
+ * {@link net.runelite.cache.item.ItemSpriteFactory}, need their own copies.
+ */
+public class LazyItemProvider implements ItemProvider
+{
+	private static final Logger logger = LoggerFactory.getLogger(LazyItemProvider.class);
+
+	private final CachedArchiveFilesProvider archiveFilesProvider;
+	private final DefinitionCache<ItemDefinition> items;
+
+	public LazyItemProvider(CachedArchiveFilesProvider archiveFilesProvider, long maximumSize)
+	{
+		this.archiveFilesProvider = archiveFilesProvider;
+		this.items = new DefinitionCache<>(maximumSize, this::load);
+	}
+
+	private ItemDefinition load(int itemId) throws IOException
+	{
+		ArchiveFiles files = archiveFilesProvider.provide(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId());
+		if (files == null)
+		{
+			return null;
+		}
+
+		FSFile file = files.findFile(itemId);
+		if (file == null)
+		{
+			return null;
+		}
+
+		return new ItemLoader().load(itemId, file.getStream());
+	}
+
+	@Override
+	public ItemDefinition provide(int itemId)
+	{
+		try
+		{
+			return items.get(itemId);
+		}
+		catch (IOException ex)
+		{
+			logger.warn("unable to load item {}", itemId, ex);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import java.io.IOException;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.SpriteLoader;
+import net.runelite.cache.fs.ArchiveFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SpriteProvider} which decodes sprites on demand. Each sprite is
+ * its own archive and is kept here once decoded, so its archive files are
+ * not added to the {@link CachedArchiveFilesProvider}.
+ * <p>
+ * The same definition is returned to every caller and must not be
+ * modified. Callers which modify sprites, such as
+ * {@link net.runelite.cache.item.ItemSpriteFactory}, need their own copies.
+ */
+public class LazySpriteProvider implements SpriteProvider
+{
+	private static final Logger logger = LoggerFactory.getLogger(LazySpriteProvider.class);
+
+	private final CachedArchiveFilesProvider archiveFilesProvider;
+	private final DefinitionCache<SpriteDefinition[]> sprites;
+
+	public LazySpriteProvider(CachedArchiveFilesProvider archiveFilesProvider, long maximumSize)
+	{
+		this.archiveFilesProvider = archiveFilesProvider;
+		this.sprites = new DefinitionCache<>(maximumSize, this::load);
+	}
+
+	private SpriteDefinition[] load(int spriteId) throws IOException
+	{
+		ArchiveFiles files = archiveFilesProvider.provideUncached(IndexType.SPRITES.getNumber(), spriteId);
+		if (files == null)
+		{
+			return null;
+		}
+
+		return new SpriteLoader().load(spriteId, files.getFiles().get(0).getContents());
+	}
+
+	@Override
+	public SpriteDefinition provide(int spriteId, int frameId)
+	{
+		SpriteDefinition[] frames;
+		try
+		{
+			frames = sprites.get(spriteId);
+		}
+		catch (IOException ex)
+		{
+			logger.warn("unable to load sprite {}", spriteId, ex);
+			return null;
+		}
+
+		if (frames == null || frameId < 0 || frameId >= frames.length)
+		{
+			return null;
+		}
+		return frames[frameId];
+	}
+}
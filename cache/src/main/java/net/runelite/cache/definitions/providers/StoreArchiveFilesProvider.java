@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Provides archive files by loading them from the storage of a {@link Store}
+ * on every call. The files are views of the decompressed archive data.
+ */
+public class StoreArchiveFilesProvider implements ArchiveFilesProvider
+{
+	private final Store store;
+
+	public StoreArchiveFilesProvider(Store store)
+	{
+		this.store = store;
+	}
+
+	@Override
+	public ArchiveFiles provide(int indexId, int archiveId) throws IOException
+	{
+		Index index = store.findIndex(indexId);
+		if (index == null)
+		{
+			return null;
+		}
+
+		Archive archive = index.getArchive(archiveId);
+		if (archive == null)
+		{
+			return null;
+		}
+
+		byte[] archiveData = store.getStorage().loadArchive(archive);
+		if (archiveData == null)
+		{
+			return null;
+		}
+
+		return archive.getFiles(archiveData, null, true);
+	}
+}
@@ -143,6 +143,21 @@ public class Archive
 	}
 
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
+	{
+		return getFiles(data, keys, false);
+	}
+
+	/**
+	 * Decompress and split archive data into its files
+	 *
+	 * @param data compressed archive data
+	 * @param keys xtea keys, or null
+	 * @param view if true, the files are views of the decompressed data
+	 * @return
+	 * @throws IOException
+	 * @see ArchiveFiles#loadContents(byte[], boolean)
+	 */
+	public ArchiveFiles getFiles(byte[] data, int[] keys, boolean view) throws IOException
 	{
 		byte[] decompressedData = decompress(data, keys);
 
@@ -153,7 +168,7 @@ public class Archive
 			file.setNameHash(fileEntry.getNameHash());
 			files.addFile(file);
 		}
-		files.loadContents(decompressedData);
+		files.loadContents(decompressedData, view);
 		return files;
 	}
 
@@ -169,7 +184,11 @@ public class Archive
 
 	public void setNameHash(int nameHash)
 	{
-		this.nameHash = nameHash;
+		if (this.nameHash != nameHash)
+		{
+			this.nameHash = nameHash;
+			index.nameHashChanged();
+		}
 	}
 
 	public int getCrc()
@@ -100,6 +100,19 @@ public class ArchiveFiles
 	}
 
 	public void loadContents(byte[] data)
+	{
+		loadContents(data, false);
+	}
+
+	/**
+	 * Split archive data into its files
+	 *
+	 * @param data decompressed archive data
+	 * @param view if true, files are views of data rather than copies. Files
+	 * split across multiple chunks are assembled when their contents are
+	 * first requested.
+	 */
+	public void loadContents(byte[] data, boolean view)
 	{
 		logger.trace("Loading contents of archive ({} files)", files.size());
 
@@ -119,6 +132,13 @@ public class ArchiveFiles
 
 		// -1 for chunks count + one int per file slot per chunk
 		stream.setOffset(stream.getLength() - 1 - chunks * filesCount * 4);
+
+		if (view)
+		{
+			loadViews(data, stream, chunks, filesCount);
+			return;
+		}
+
 		int[][] chunkSizes = new int[filesCount][chunks];
 		int[] filesSize = new int[filesCount];
 
@@ -167,6 +187,50 @@ public class ArchiveFiles
 		}
 	}
 
+	private void loadViews(byte[] data, InputStream stream, int chunks, int filesCount)
+	{
+		if (chunks == 1)
+		{
+			int offset = 0;
+			int size = 0;
+			for (int id = 0; id < filesCount; ++id)
+			{
+				size += stream.readInt();
+				files.get(id).setContents(data, offset, size);
+				offset += size;
+			}
+			return;
+		}
+
+		int[] offsets = new int[chunks * filesCount];
+		int[] sizes = new int[chunks * filesCount];
+		int[] filesSize = new int[filesCount];
+		int offset = 0;
+
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id)
+			{
+				chunkSize += stream.readInt();
+
+				int i = chunk * filesCount + id;
+				offsets[i] = offset;
+				sizes[i] = chunkSize;
+
+				offset += chunkSize;
+				filesSize[id] += chunkSize;
+			}
+		}
+
+		ChunkTable chunkTable = new ChunkTable(data, filesCount, chunks, offsets, sizes);
+		for (int id = 0; id < filesCount; ++id)
+		{
+			files.get(id).setContents(chunkTable, id, filesSize[id]);
+		}
+	}
+
 	public byte[] saveContents()
 	{
 		OutputStream stream = new OutputStream();
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+/**
+ * An open addressing hash table of int keys to archives, used by
+ * {@link Index} for lookups by archive id and name hash without boxing.
+ */
+class ArchiveMap
+{
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] keys;
+	private Archive[] values;
+	private int mask;
+	private int size;
+
+	ArchiveMap()
+	{
+		allocate(INITIAL_CAPACITY);
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		values = new Archive[capacity];
+		mask = capacity - 1;
+	}
+
+	private static int hash(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	Archive get(int key)
+	{
+		for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				return values[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Map key to value, replacing any existing mapping
+	 *
+	 * @param key
+	 * @param value
+	 * @return the previous value, or null
+	 */
+	Archive put(int key, Archive value)
+	{
+		int i = hash(key) & mask;
+		for (; values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				Archive old = values[i];
+				values[i] = value;
+				return old;
+			}
+		}
+
+		keys[i] = key;
+		values[i] = value;
+
+		// keep the load factor at or below 0.5
+		if (++size > (mask + 1) >> 1)
+		{
+			rehash();
+		}
+		return null;
+	}
+
+	Archive remove(int key)
+	{
+		for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				Archive old = values[i];
+				shift(i);
+				--size;
+				return old;
+			}
+		}
+		return null;
+	}
+
+	void clear()
+	{
+		allocate(INITIAL_CAPACITY);
+		size = 0;
+	}
+
+	/**
+	 * Backward shift the entries following a removed slot so that
+	 * probe sequences remain unbroken
+	 */
+	private void shift(int free)
+	{
+		for (int i = (free + 1) & mask; values[i] != null; i = (i + 1) & mask)
+		{
+			int ideal = hash(keys[i]) & mask;
+			// the entry may move to the free slot if the free slot is
+			// between its ideal slot and its current slot
+			if (((i - ideal) & mask) >= ((i - free) & mask))
+			{
+				keys[free] = keys[i];
+				values[free] = values[i];
+				free = i;
+			}
+		}
+
+		keys[free] = 0;
+		values[free] = null;
+	}
+
+	private void rehash()
+	{
+		int[] oldKeys = keys;
+		Archive[] oldValues = values;
+
+		allocate(oldKeys.length << 1);
+
+		for (int i = 0; i < oldKeys.length; ++i)
+		{
+			Archive value = oldValues[i];
+			if (value == null)
+			{
+				continue;
+			}
+
+			int j = hash(oldKeys[i]) & mask;
+			while (values[j] != null)
+			{
+				j = (j + 1) & mask;
+			}
+			keys[j] = oldKeys[i];
+			values[j] = value;
+		}
+	}
+}
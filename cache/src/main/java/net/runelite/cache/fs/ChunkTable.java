@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+/**
+ * The layout of the files of an archive which are split across multiple
+ * chunks, used to assemble a file when its contents are first needed.
+ */
+class ChunkTable
+{
+	private final byte[] data;
+	private final int filesCount;
+	private final int chunks;
+	// offset and size of each file in each chunk, indexed by chunk * filesCount + file
+	private final int[] offsets;
+	private final int[] sizes;
+
+	ChunkTable(byte[] data, int filesCount, int chunks, int[] offsets, int[] sizes)
+	{
+		this.data = data;
+		this.filesCount = filesCount;
+		this.chunks = chunks;
+		this.offsets = offsets;
+		this.sizes = sizes;
+	}
+
+	byte[] copy(int file, int size)
+	{
+		byte[] contents = new byte[size];
+		int pos = 0;
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int i = chunk * filesCount + file;
+			System.arraycopy(data, offsets[i], contents, pos, sizes[i]);
+			pos += sizes[i];
+		}
+		return contents;
+	}
+}
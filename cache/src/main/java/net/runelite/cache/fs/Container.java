@@ -24,9 +24,9 @@
  */
 package net.runelite.cache.fs;
 
-import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
@@ -41,6 +41,9 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	// larger than any archive, to reject lengths from corrupt data or wrong keys before allocating
+	private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -54,34 +57,42 @@ public class Container
 
 	public void compress(byte[] data, int[] keys) throws IOException
 	{
-		OutputStream stream = new OutputStream();
+		OutputStream stream = new OutputStream(data.length + 16);
+
+		stream.writeByte(compression);
+		stream.writeInt(0); // length, written once known
 
-		byte[] compressedData;
-		int length;
+		int start = stream.getOffset();
 		switch (compression)
 		{
 			case CompressionType.NONE:
-				compressedData = data;
-				length = compressedData.length;
+				stream.writeBytes(data);
 				break;
 			case CompressionType.BZ2:
-				compressedData = concat(Ints.toByteArray(data.length), BZip2.compress(data));
-				length = compressedData.length - 4;
+				stream.writeInt(data.length);
+				BZip2.compress(data, 0, data.length, stream);
 				break;
 			case CompressionType.GZ:
-				compressedData = concat(Ints.toByteArray(data.length), GZip.compress(data));
-				length = compressedData.length - 4;
+				stream.writeInt(data.length);
+				GZip.compress(data, 0, data.length, stream);
 				break;
 			default:
 				throw new RuntimeException("Unknown compression type");
 		}
+		int end = stream.getOffset();
 
-		compressedData = encrypt(compressedData, compressedData.length, keys);
+		if (keys != null)
+		{
+			// the decompressed length is encrypted too
+			new Xtea(keys).encrypt(stream.getArray(), start, end - start);
+		}
 
-		stream.writeByte(compression);
+		// the length excludes the decompressed length
+		int length = compression == CompressionType.NONE ? end - start : end - start - 4;
+		stream.setOffset(1);
 		stream.writeInt(length);
+		stream.setOffset(end);
 
-		stream.writeBytes(compressedData);
 		if (revision != -1)
 		{
 			stream.writeShort(revision);
@@ -101,89 +112,61 @@ public class Container
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		if (compression != CompressionType.NONE && compression != CompressionType.BZ2 && compression != CompressionType.GZ)
+		{
+			throw new RuntimeException("Unknown decompression type");
+		}
 
-		byte[] data;
-		int revision = -1;
-		switch (compression)
+		// compressed data is preceded by its decompressed length
+		int encryptedLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		if (stream.remaining() < encryptedLength)
 		{
-			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
+			throw new IOException("Container data is truncated");
+		}
 
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, 5 + encryptedLength); // compression + length + data
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		int revision = -1;
+		if (stream.remaining() - encryptedLength >= 2)
+		{
+			stream.setOffset(5 + encryptedLength);
+			revision = stream.readUnsignedShort();
+		}
 
-				data = decryptedData;
+		// decrypt a copy, as the caller's array must not be modified
+		byte[] encrypted = b;
+		int offset = 5;
+		if (keys != null)
+		{
+			encrypted = Arrays.copyOfRange(b, 5, 5 + encryptedLength);
+			offset = 0;
+			new Xtea(keys).decrypt(encrypted, 0, encryptedLength);
+		}
 
-				break;
-			}
-			case CompressionType.BZ2:
+		byte[] data;
+		if (compression == CompressionType.NONE)
+		{
+			data = encrypted != b ? encrypted : Arrays.copyOfRange(b, offset, offset + compressedLength);
+		}
+		else
+		{
+			int decompressedLength = Ints.fromBytes(encrypted[offset], encrypted[offset + 1],
+				encrypted[offset + 2], encrypted[offset + 3]);
+			if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
+				throw new IOException("Invalid decompressed length " + decompressedLength);
+			}
 
-				break;
+			data = new byte[decompressedLength];
+			if (compression == CompressionType.BZ2)
+			{
+				BZip2.decompress(encrypted, offset + 4, compressedLength, data, 0, decompressedLength);
 			}
-			case CompressionType.GZ:
+			else
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
-				break;
+				GZip.decompress(encrypted, offset + 4, compressedLength, data, 0, decompressedLength);
 			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
 		}
 
 		Container container = new Container(compression, revision);
@@ -192,25 +175,56 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	/**
+	 * Test whether keys could decrypt a container by decrypting only its first
+	 * block. The encrypted data of a compressed container starts with the
+	 * decompressed length and the gzip or bzip2 block magic, which wrong keys
+	 * almost never produce. A true result should still be confirmed with
+	 * {@link #decompress(byte[], int[])}.
+	 *
+	 * @param b container data
+	 * @param keys
+	 * @return false if the keys can not decrypt the container
+	 */
+	public static boolean checkKeys(byte[] b, int[] keys)
 	{
-		if (keys == null)
+		// compression + length + one block
+		if (b.length < 5 + 8)
 		{
-			return data;
+			return true;
 		}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
-	}
+		int compression = b[0] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
+		if (compression == CompressionType.NONE || compressedLength < 4)
+		{
+			// nothing to check without decrypting all of it
+			return true;
+		}
 
-	private static byte[] encrypt(byte[] data, int length, int[] keys)
-	{
-		if (keys == null)
+		byte[] block = Arrays.copyOfRange(b, 5, 5 + 8);
+		if (keys != null)
 		{
-			return data;
+			new Xtea(keys).decrypt(block, 0, 8);
 		}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.encrypt(data, length);
+		int decompressedLength = Ints.fromBytes(block[0], block[1], block[2], block[3]);
+		if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
+		{
+			return false;
+		}
+
+		switch (compression)
+		{
+			case CompressionType.GZ:
+				// gzip magic and deflate method
+				return block[4] == (byte) 0x1f && block[5] == (byte) 0x8b && block[6] == 8;
+			case CompressionType.BZ2:
+				// block header magic, or end of stream magic for an empty stream
+				return (block[4] == 0x31 && block[5] == 0x41 && block[6] == 0x59 && block[7] == 0x26)
+					|| (block[4] == 0x17 && block[5] == 0x72 && block[6] == 0x45 && block[7] == 0x38);
+			default:
+				return true;
+		}
 	}
 }
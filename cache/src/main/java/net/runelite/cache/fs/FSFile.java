@@ -26,12 +26,20 @@
 package net.runelite.cache.fs;
 
 import java.util.Arrays;
+import net.runelite.cache.io.InputStream;
 
 public class FSFile
 {
 	private final int fileId;
 	private int nameHash;
-	private byte[] contents;
+	private volatile byte[] contents;
+	private int size;
+
+	// when the file is a view of a decompressed archive, the region of
+	// the archive data holding the file, or the chunks it is split across
+	private byte[] data;
+	private int offset;
+	private ChunkTable chunkTable;
 
 	public FSFile(int fileId)
 	{
@@ -44,7 +52,7 @@ public class FSFile
 		int hash = 7;
 		hash = 97 * hash + this.fileId;
 		hash = 97 * hash + this.nameHash;
-		hash = 97 * hash + Arrays.hashCode(this.contents);
+		hash = 97 * hash + Arrays.hashCode(this.getContents());
 		return hash;
 	}
 
@@ -68,7 +76,7 @@ public class FSFile
 		{
 			return false;
 		}
-		if (!Arrays.equals(this.contents, other.contents))
+		if (!Arrays.equals(this.getContents(), other.getContents()))
 		{
 			return false;
 		}
@@ -90,18 +98,85 @@ public class FSFile
 		this.nameHash = nameHash;
 	}
 
+	/**
+	 * Get the contents of the file. If the file is a view of an archive
+	 * that is not a whole array, the contents are copied out on first use.
+	 *
+	 * @return
+	 */
 	public byte[] getContents()
 	{
-		return contents;
+		byte[] c = contents;
+		if (c == null && (data != null || chunkTable != null))
+		{
+			if (chunkTable != null)
+			{
+				c = chunkTable.copy(offset, size);
+			}
+			else if (offset == 0 && size == data.length)
+			{
+				c = data;
+			}
+			else
+			{
+				c = Arrays.copyOfRange(data, offset, offset + size);
+			}
+			contents = c;
+		}
+		return c;
 	}
 
 	public void setContents(byte[] contents)
 	{
 		this.contents = contents;
+		this.size = contents == null ? 0 : contents.length;
+		this.data = null;
+		this.offset = 0;
+		this.chunkTable = null;
+	}
+
+	/**
+	 * Set the contents of the file to a region of an array, without copying
+	 *
+	 * @param data
+	 * @param offset start of the file in data
+	 * @param length length of the file
+	 */
+	public void setContents(byte[] data, int offset, int length)
+	{
+		this.contents = null;
+		this.size = length;
+		this.data = data;
+		this.offset = offset;
+		this.chunkTable = null;
 	}
-	
+
+	void setContents(ChunkTable chunkTable, int file, int length)
+	{
+		this.contents = null;
+		this.size = length;
+		this.data = null;
+		this.offset = file;
+		this.chunkTable = chunkTable;
+	}
+
+	/**
+	 * Open a stream over the file contents. Files which are a single region
+	 * of an archive are read in place.
+	 *
+	 * @return
+	 */
+	public InputStream getStream()
+	{
+		if (contents == null && data != null)
+		{
+			return new InputStream(data, offset, size);
+		}
+		return new InputStream(getContents());
+	}
+
 	public int getSize()
 	{
-		return contents.length;
+		return size;
 	}
 }
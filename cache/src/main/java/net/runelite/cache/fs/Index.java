@@ -47,6 +47,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final ArchiveMap archivesById = new ArchiveMap();
+	private volatile ArchiveMap archivesByName; // built on demand, null if stale
 
 	public Index(int id)
 	{
@@ -154,32 +156,68 @@ public class Index
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+
+		// lookups return the first archive added with a given id
+		if (archivesById.get(id) == null)
+		{
+			archivesById.put(id, archive);
+		}
+		archivesByName = null;
 		return archive;
 	}
 
-	public Archive getArchive(int id)
+	public void removeArchive(Archive archive)
 	{
-		for (Archive a : archives)
+		if (!archives.removeIf(a -> a == archive))
 		{
-			if (a.getArchiveId() == id)
+			return;
+		}
+
+		if (archivesById.get(archive.getArchiveId()) == archive)
+		{
+			archivesById.remove(archive.getArchiveId());
+			for (Archive a : archives)
 			{
-				return a;
+				if (a.getArchiveId() == archive.getArchiveId())
+				{
+					archivesById.put(a.getArchiveId(), a);
+					break;
+				}
 			}
 		}
-		return null;
+		archivesByName = null;
+	}
+
+	void nameHashChanged()
+	{
+		archivesByName = null;
+	}
+
+	public Archive getArchive(int id)
+	{
+		return archivesById.get(id);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+
+		ArchiveMap map = archivesByName;
+		if (map == null)
 		{
-			if (a.getNameHash() == hash)
+			// name hashes are set after archives are added, so the
+			// map is rebuilt on the first lookup after any change
+			map = new ArchiveMap();
+			for (Archive a : archives)
 			{
-				return a;
+				if (map.get(a.getNameHash()) == null)
+				{
+					map.put(a.getNameHash(), a);
+				}
 			}
+			archivesByName = map;
 		}
-		return null;
+		return map.get(hash);
 	}
 
 	public IndexData toIndexData()
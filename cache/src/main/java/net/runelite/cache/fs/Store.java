@@ -28,9 +28,16 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -126,6 +133,123 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Load, decompress, and split the files of many archives in parallel on
+	 * the common pool.
+	 *
+	 * @param archives archives to load
+	 * @param consumer called with each archive and its files as it finishes
+	 * loading. This is called concurrently from the pool threads.
+	 * @throws IOException
+	 * @see #loadArchives(ForkJoinPool, Collection, BiConsumer)
+	 */
+	public void loadArchives(Collection<Archive> archives, BiConsumer<Archive, ArchiveFiles> consumer) throws IOException
+	{
+		loadArchives(ForkJoinPool.commonPool(), archives, consumer);
+	}
+
+	/**
+	 * Load, decompress, and split the files of many unencrypted archives in
+	 * parallel. Archives which are missing from the storage are skipped. This
+	 * blocks until all archives have been passed to the consumer, or one fails
+	 * to load.
+	 *
+	 * @param pool pool to run on
+	 * @param archives archives to load
+	 * @param consumer called with each archive and its files as it finishes
+	 * loading. This is called concurrently from the pool threads.
+	 * @throws IOException
+	 * @see #loadArchives(ForkJoinPool, Collection, Function, BiConsumer, BiConsumer)
+	 */
+	public void loadArchives(ForkJoinPool pool, Collection<Archive> archives, BiConsumer<Archive, ArchiveFiles> consumer) throws IOException
+	{
+		loadArchives(pool, archives, archive -> null, consumer, null);
+	}
+
+	/**
+	 * Load, decrypt, decompress, and split the files of many archives in
+	 * parallel. Archives which are missing from the storage are skipped. This
+	 * blocks until every archive has been passed to the consumer or the error
+	 * handler.
+	 *
+	 * @param pool pool to run on
+	 * @param archives archives to load
+	 * @param keys returns the xtea keys for an archive, or null if it is not
+	 * encrypted
+	 * @param consumer called with each archive and its files as it finishes
+	 * loading. This is called concurrently from the pool threads.
+	 * @param errorHandler called with each archive which fails to load, such
+	 * as one with missing or wrong keys, and the error. This is called
+	 * concurrently from the pool threads. If null, the first failure aborts
+	 * the whole batch and is rethrown.
+	 * @throws IOException
+	 */
+	public void loadArchives(ForkJoinPool pool, Collection<Archive> archives, Function<Archive, int[]> keys,
+		BiConsumer<Archive, ArchiveFiles> consumer, BiConsumer<Archive, Exception> errorHandler) throws IOException
+	{
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>(archives.size());
+		for (Archive archive : archives)
+		{
+			tasks.add(pool.submit(() ->
+			{
+				byte[] data = storage.loadArchive(archive);
+				if (data == null)
+				{
+					logger.debug("Skipping missing archive {}/{}", archive.getIndex().getId(), archive.getArchiveId());
+					return null;
+				}
+
+				ArchiveFiles files;
+				try
+				{
+					files = archive.getFiles(data, keys.apply(archive));
+				}
+				catch (IOException | RuntimeException ex)
+				{
+					if (errorHandler == null)
+					{
+						throw ex;
+					}
+
+					errorHandler.accept(archive, ex);
+					return null;
+				}
+
+				consumer.accept(archive, files);
+				return null;
+			}));
+		}
+
+		try
+		{
+			for (ForkJoinTask<Void> task : tasks)
+			{
+				task.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted loading archives");
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException("error loading archives", cause);
+		}
+		finally
+		{
+			for (ForkJoinTask<Void> task : tasks)
+			{
+				task.cancel(false);
+			}
+		}
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
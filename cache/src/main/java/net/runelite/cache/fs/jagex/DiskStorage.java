@@ -85,7 +85,7 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private synchronized IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		for (IndexFile indexFile : indexFiles)
 		{
@@ -121,6 +121,11 @@ public class DiskStorage implements Storage
 		logger.trace("Loading index {}", index.getId());
 
 		byte[] indexData = readIndex(index.getId());
+		loadIndex(index, indexData);
+	}
+
+	static void loadIndex(Index index, byte[] indexData) throws IOException
+	{
 		Container res = Container.decompress(indexData, null);
 		byte[] data = res.data;
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read only view of a data file, backed by a memory mapping. Sector chains
+ * are walked straight from the mapping, so any number of threads may read
+ * concurrently without locking.
+ */
+public class MappedDataFile implements Closeable
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDataFile.class);
+
+	private static final int SECTOR_SIZE = 520;
+
+	private final MappedByteBuffer buffer;
+	private final int sectors;
+
+	public MappedDataFile(File file) throws IOException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			long length = channel.size();
+			if (length > Integer.MAX_VALUE)
+			{
+				throw new IOException("data file " + file + " is too large to map (" + length + " bytes)");
+			}
+
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			this.sectors = (int) (length / SECTOR_SIZE);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		// the mapping is released when the buffer is collected
+	}
+
+	/**
+	 *
+	 * @param indexId expected index of archive of contents being read
+	 * @param archiveId expected archive of contents being read
+	 * @param sector sector to start reading at
+	 * @param size size of file
+	 * @return
+	 */
+	public byte[] read(int indexId, int archiveId, int sector, int size)
+	{
+		byte[] data = new byte[size];
+		if (read(indexId, archiveId, sector, size, data, 0) != size)
+		{
+			return null;
+		}
+		return data;
+	}
+
+	/**
+	 * Read a file into a caller supplied buffer
+	 *
+	 * @param indexId expected index of archive of contents being read
+	 * @param archiveId expected archive of contents being read
+	 * @param sector sector to start reading at
+	 * @param size size of file
+	 * @param dest buffer to read the file into
+	 * @param offset offset into dest to start writing at
+	 * @return the number of bytes read, or -1 on error
+	 */
+	public int read(int indexId, int archiveId, int sector, int size, byte[] dest, int offset)
+	{
+		if (sector <= 0 || sectors < sector)
+		{
+			logger.warn("bad read, dat sectors {}, requested sector {}", sectors, sector);
+			return -1;
+		}
+
+		if (dest.length - offset < size)
+		{
+			throw new IllegalArgumentException("buffer too small for file of size " + size);
+		}
+
+		// a private view so that concurrent readers do not share a position
+		ByteBuffer view = buffer.duplicate();
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return -1;
+			}
+
+			int position = SECTOR_SIZE * sector;
+			int dataBlockSize = size - readBytesCount;
+			int headerSize;
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (archiveId > 0xFFFF)
+			{
+				headerSize = 10;
+				if (dataBlockSize > SECTOR_SIZE - headerSize)
+				{
+					dataBlockSize = SECTOR_SIZE - headerSize;
+				}
+
+				if (position + headerSize + dataBlockSize > view.limit())
+				{
+					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+					return -1;
+				}
+
+				currentArchive = view.getInt(position);
+				currentPart = view.getShort(position + 4) & 0xFFFF;
+				nextSector = ((view.get(position + 6) & 0xFF) << 16)
+					| ((view.get(position + 7) & 0xFF) << 8)
+					| (view.get(position + 8) & 0xFF);
+				currentIndex = view.get(position + 9) & 0xFF;
+			}
+			else
+			{
+				headerSize = 8;
+				if (dataBlockSize > SECTOR_SIZE - headerSize)
+				{
+					dataBlockSize = SECTOR_SIZE - headerSize;
+				}
+
+				if (position + headerSize + dataBlockSize > view.limit())
+				{
+					logger.warn("short read");
+					return -1;
+				}
+
+				currentArchive = view.getShort(position) & 0xFFFF;
+				currentPart = view.getShort(position + 2) & 0xFFFF;
+				nextSector = ((view.get(position + 4) & 0xFF) << 16)
+					| ((view.get(position + 5) & 0xFF) << 8)
+					| (view.get(position + 6) & 0xFF);
+				currentIndex = view.get(position + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return -1;
+			}
+
+			if (nextSector < 0 || sectors < nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return -1;
+			}
+
+			view.position(position + headerSize);
+			view.get(dest, offset + readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return size;
+	}
+}
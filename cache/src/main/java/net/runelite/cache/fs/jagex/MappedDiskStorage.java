@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read only {@link Storage} which memory maps the data and index files of a
+ * cache. Archives may be loaded from any number of threads concurrently once
+ * the storage has been initialized.
+ */
+public class MappedDiskStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDiskStorage.class);
+
+	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
+	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+
+	private final File folder;
+
+	private final MappedDataFile data;
+	private final MappedIndexFile index255;
+	private MappedIndexFile[] indexFiles = new MappedIndexFile[0];
+
+	public MappedDiskStorage(File folder) throws IOException
+	{
+		this.folder = folder;
+
+		this.data = new MappedDataFile(new File(folder, MAIN_FILE_CACHE_DAT));
+		this.index255 = new MappedIndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		int indexCount = index255.getIndexCount();
+		MappedIndexFile[] files = new MappedIndexFile[indexCount];
+
+		for (int i = 0; i < indexCount; ++i)
+		{
+			store.addIndex(i);
+			files[i] = new MappedIndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
+		}
+
+		indexFiles = files;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		data.close();
+		index255.close();
+		for (MappedIndexFile indexFile : indexFiles)
+		{
+			indexFile.close();
+		}
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			logger.trace("Loading index {}", index.getId());
+
+			byte[] indexData = readIndex(index.getId());
+			if (indexData == null)
+			{
+				throw new IOException("unable to read index " + index.getId());
+			}
+
+			DiskStorage.loadIndex(index, indexData);
+		}
+	}
+
+	public byte[] readIndex(int indexId)
+	{
+		int sector = index255.getSector(indexId);
+		int length = index255.getLength(indexId);
+		if (sector <= 0 || length <= 0)
+		{
+			return null;
+		}
+
+		return data.read(index255.getIndexFileId(), indexId, sector, length);
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		int length = getArchiveLength(archive);
+		if (length <= 0)
+		{
+			return null;
+		}
+
+		byte[] archiveData = new byte[length];
+		if (loadArchive(archive, archiveData, 0) != length)
+		{
+			return null;
+		}
+		return archiveData;
+	}
+
+	/**
+	 * Get the length of the compressed data of an archive
+	 *
+	 * @param archive
+	 * @return the length, or 0 if the archive is not in the cache
+	 */
+	public int getArchiveLength(Archive archive)
+	{
+		MappedIndexFile indexFile = getIndexFile(archive.getIndex().getId());
+		if (indexFile == null)
+		{
+			return 0;
+		}
+
+		return indexFile.getLength(archive.getArchiveId());
+	}
+
+	/**
+	 * Load the compressed data of an archive into a caller supplied buffer
+	 *
+	 * @param archive
+	 * @param dest buffer to read the archive into, must have at least
+	 * {@link #getArchiveLength(Archive)} bytes available
+	 * @param offset offset into dest to start writing at
+	 * @return the number of bytes read, or -1 if the archive can't be read
+	 */
+	public int loadArchive(Archive archive, byte[] dest, int offset)
+	{
+		Index index = archive.getIndex();
+		MappedIndexFile indexFile = getIndexFile(index.getId());
+		if (indexFile == null)
+		{
+			return -1;
+		}
+
+		int sector = indexFile.getSector(archive.getArchiveId());
+		int length = indexFile.getLength(archive.getArchiveId());
+		if (sector <= 0 || length <= 0)
+		{
+			logger.debug("can't read archive " + archive.getArchiveId() + " from index " + index.getId());
+			return -1;
+		}
+
+		logger.trace("Loading archive {} for index {} from sector {} length {}",
+			archive.getArchiveId(), index.getId(), sector, length);
+
+		return data.read(index.getId(), archive.getArchiveId(), sector, length, dest, offset);
+	}
+
+	private MappedIndexFile getIndexFile(int indexId)
+	{
+		MappedIndexFile[] files = indexFiles;
+		if (indexId < 0 || indexId >= files.length)
+		{
+			return null;
+		}
+		return files[indexId];
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		throw new IOException("mapped disk storage is read only");
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		throw new IOException("mapped disk storage is read only");
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read only, memory mapped view of an index file. Entries are read with
+ * absolute gets and so this is safe to use from multiple threads.
+ */
+public class MappedIndexFile implements Closeable
+{
+	private static final int INDEX_ENTRY_LEN = 6;
+
+	private final int indexFileId;
+	private final MappedByteBuffer buffer;
+
+	public MappedIndexFile(int indexFileId, File file) throws IOException
+	{
+		this.indexFileId = indexFileId;
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		// the mapping is released when the buffer is collected
+	}
+
+	public int getIndexFileId()
+	{
+		return indexFileId;
+	}
+
+	public int getIndexCount()
+	{
+		return buffer.limit() / INDEX_ENTRY_LEN;
+	}
+
+	/**
+	 * Get the length of an entry
+	 *
+	 * @param id
+	 * @return the length of the entry, or 0 if it does not exist
+	 */
+	public int getLength(int id)
+	{
+		return readMedium(id, 0);
+	}
+
+	/**
+	 * Get the starting sector of an entry
+	 *
+	 * @param id
+	 * @return the sector of the entry, or 0 if it does not exist
+	 */
+	public int getSector(int id)
+	{
+		return readMedium(id, 3);
+	}
+
+	private int readMedium(int id, int offset)
+	{
+		if (id < 0 || id >= getIndexCount())
+		{
+			return 0;
+		}
+
+		int position = id * INDEX_ENTRY_LEN + offset;
+		return ((buffer.get(position) & 0xFF) << 16)
+			| ((buffer.get(position + 1) & 0xFF) << 8)
+			| (buffer.get(position + 2) & 0xFF);
+	}
+}
@@ -46,9 +46,33 @@ public class InputStream extends java.io.InputStream
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	/**
+	 * Create a stream over a region of an array. Offsets of the stream
+	 * are relative to the start of the region.
+	 *
+	 * @param buffer
+	 * @param offset start of the region
+	 * @param length length of the region
+	 */
+	public InputStream(byte[] buffer, int offset, int length)
+	{
+		this.buffer = ByteBuffer.wrap(buffer, offset, length).slice();
+	}
+
+	/**
+	 * Get the backing array, which offsets of the stream index directly.
+	 *
+	 * @return
+	 * @throws IllegalStateException if the stream is over a region which
+	 * does not start at the beginning of its array
+	 */
 	public byte[] getArray()
 	{
 		assert buffer.hasArray();
+		if (buffer.arrayOffset() != 0)
+		{
+			throw new IllegalStateException("stream is over a region at offset " + buffer.arrayOffset() + " of its array");
+		}
 		return buffer.array();
 	}
 
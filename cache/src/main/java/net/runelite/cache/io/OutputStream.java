@@ -205,7 +205,13 @@ public final class OutputStream extends java.io.OutputStream
 	@Override
 	public void write(int b) throws IOException
 	{
-		buffer.put((byte) b);
+		writeByte(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException
+	{
+		writeBytes(b, off, len);
 	}
 
 }
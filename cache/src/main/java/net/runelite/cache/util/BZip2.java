@@ -24,12 +24,14 @@
  */
 package net.runelite.cache.util;
 
+import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Arrays;
+import java.io.SequenceInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
@@ -47,23 +49,65 @@ public class BZip2
 		'1'       // block size
 	};
 
-	public static byte[] compress(byte[] bytes) throws IOException
+	/**
+	 * Drops the bzip2 header from a compressor's output, as it is not stored
+	 * in the cache
+	 */
+	private static class HeaderlessOutputStream extends FilterOutputStream
 	{
-		InputStream is = new ByteArrayInputStream(bytes);
-		ByteArrayOutputStream bout = new ByteArrayOutputStream();
-		try (OutputStream os = new BZip2CompressorOutputStream(bout, 1))
+		private int skipped;
+
+		HeaderlessOutputStream(OutputStream out)
 		{
-			IOUtils.copy(is, os);
+			super(out);
 		}
 
-		byte[] out = bout.toByteArray();
+		@Override
+		public void write(int b) throws IOException
+		{
+			if (skipped < BZIP_HEADER.length)
+			{
+				assert BZIP_HEADER[skipped] == (byte) b;
+				++skipped;
+				return;
+			}
+			out.write(b);
+		}
 
-		assert BZIP_HEADER[0] == out[0];
-		assert BZIP_HEADER[1] == out[1];
-		assert BZIP_HEADER[2] == out[2];
-		assert BZIP_HEADER[3] == out[3];
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			while (skipped < BZIP_HEADER.length && len > 0)
+			{
+				write(b[off++]);
+				--len;
+			}
+			out.write(b, off, len);
+		}
+	}
+
+	public static byte[] compress(byte[] bytes) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		compress(bytes, 0, bytes.length, bout);
+		return bout.toByteArray();
+	}
 
-		return Arrays.copyOfRange(out, BZIP_HEADER.length, out.length); // remove header..
+	/**
+	 * Compress data without the bzip2 header
+	 *
+	 * @param bytes
+	 * @param off
+	 * @param len
+	 * @param out stream to write the compressed data to
+	 * @throws IOException
+	 */
+	public static void compress(byte[] bytes, int off, int len, OutputStream out) throws IOException
+	{
+		BZip2CompressorOutputStream os = new BZip2CompressorOutputStream(new HeaderlessOutputStream(out), 1);
+		os.write(bytes, off, len);
+		// finish rather than close, which would close out
+		os.finish();
 	}
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
@@ -83,4 +127,33 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress data without the bzip2 header, whose decompressed length is
+	 * known, directly into the destination array
+	 *
+	 * @param bytes
+	 * @param off
+	 * @param len length of the compressed data
+	 * @param dest
+	 * @param destOff
+	 * @param destLen decompressed length
+	 * @throws IOException if the data is invalid or does not decompress to
+	 * exactly destLen bytes
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest, int destOff, int destLen) throws IOException
+	{
+		InputStream in = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER),
+			new ByteArrayInputStream(bytes, off, len));
+
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			ByteStreams.readFully(is, dest, destOff, destLen);
+
+			if (is.read() != -1)
+			{
+				throw new IOException("Decompressed data is longer than expected");
+			}
+		}
+	}
 }
@@ -25,6 +25,7 @@
 
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
 
 public class Crc32
@@ -36,8 +37,27 @@ public class Crc32
 		crc32.update(data, offset, length);
 	}
 
+	/**
+	 * Update the checksum with the remaining bytes of a buffer, without
+	 * copying them
+	 *
+	 * @param buffer
+	 */
+	public void update(ByteBuffer buffer)
+	{
+		crc32.update(buffer);
+	}
+
 	public int getHash()
 	{
 		return (int) crc32.getValue();
 	}
+
+	/**
+	 * Reset the checksum so this can be reused
+	 */
+	public void reset()
+	{
+		crc32.reset();
+	}
 }
@@ -27,11 +27,16 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,17 +45,60 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	// magic, deflate, no flags, no modification time, no extra flags, os
+	private static final byte[] GZIP_HEADER = new byte[]
+	{
+		0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	// inflaters and deflaters are expensive to create, so each thread reuses its own
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+	private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+	private static final ThreadLocal<CRC32> CRC = ThreadLocal.withInitial(CRC32::new);
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
-		InputStream is = new ByteArrayInputStream(bytes);
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		compress(bytes, 0, bytes.length, bout);
+		return bout.toByteArray();
+	}
+
+	/**
+	 * Compress data to a gzip stream
+	 *
+	 * @param bytes
+	 * @param off
+	 * @param len
+	 * @param out stream to write the gzip data to
+	 * @throws IOException
+	 */
+	public static void compress(byte[] bytes, int off, int len, OutputStream out) throws IOException
+	{
+		out.write(GZIP_HEADER);
 
-		try (OutputStream os = new GZIPOutputStream(bout))
+		Deflater deflater = DEFLATER.get();
+		byte[] buffer = BUFFER.get();
+		deflater.reset();
+		deflater.setInput(bytes, off, len);
+		deflater.finish();
+		while (!deflater.finished())
 		{
-			IOUtils.copy(is, os);
+			int n = deflater.deflate(buffer);
+			out.write(buffer, 0, n);
 		}
-		
-		return bout.toByteArray();
+
+		CRC32 crc = CRC.get();
+		crc.reset();
+		crc.update(bytes, off, len);
+
+		writeIntLE(out, (int) crc.getValue());
+		writeIntLE(out, len);
 	}
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
@@ -64,4 +112,145 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a gzip stream whose decompressed length is known directly
+	 * into the destination array
+	 *
+	 * @param bytes
+	 * @param off
+	 * @param len length of the gzip stream
+	 * @param dest
+	 * @param destOff
+	 * @param destLen decompressed length
+	 * @throws IOException if the stream is invalid or does not decompress to
+	 * exactly destLen bytes
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest, int destOff, int destLen) throws IOException
+	{
+		int end = off + len;
+		int pos = skipHeader(bytes, off, end);
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(bytes, pos, end - pos);
+
+		try
+		{
+			int n = 0;
+			while (n < destLen)
+			{
+				int r = inflater.inflate(dest, destOff + n, destLen - n);
+				if (r == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("Unexpected end of gzip data");
+				}
+				n += r;
+			}
+
+			// this consumes the end of the deflate stream if it hasn't been yet
+			if (!inflater.finished() && (inflater.inflate(BUFFER.get(), 0, 1) != 0 || !inflater.finished()))
+			{
+				throw new ZipException("Decompressed data is longer than expected");
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+
+		int trailer = end - inflater.getRemaining();
+		if (end - trailer < 8)
+		{
+			throw new EOFException("Unexpected end of gzip data");
+		}
+
+		CRC32 crc = CRC.get();
+		crc.reset();
+		crc.update(dest, destOff, destLen);
+
+		if (readIntLE(bytes, trailer) != (int) crc.getValue() || readIntLE(bytes, trailer + 4) != destLen)
+		{
+			throw new ZipException("Corrupt gzip trailer");
+		}
+	}
+
+	private static int skipHeader(byte[] b, int off, int end) throws IOException
+	{
+		if (end - off < GZIP_HEADER.length)
+		{
+			throw new EOFException("Unexpected end of gzip data");
+		}
+
+		if (b[off] != GZIP_HEADER[0] || b[off + 1] != GZIP_HEADER[1])
+		{
+			throw new ZipException("Not in gzip format");
+		}
+
+		if (b[off + 2] != Deflater.DEFLATED)
+		{
+			throw new ZipException("Unsupported compression method");
+		}
+
+		int flags = b[off + 3] & 0xFF;
+		int pos = off + GZIP_HEADER.length;
+
+		if ((flags & FEXTRA) != 0)
+		{
+			checkAvailable(pos, 2, end);
+			pos += 2 + ((b[pos] & 0xFF) | (b[pos + 1] & 0xFF) << 8);
+		}
+
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(b, pos, end);
+		}
+
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(b, pos, end);
+		}
+
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		checkAvailable(pos, 0, end);
+		return pos;
+	}
+
+	private static int skipString(byte[] b, int pos, int end) throws IOException
+	{
+		do
+		{
+			checkAvailable(pos, 1, end);
+		}
+		while (b[pos++] != 0);
+		return pos;
+	}
+
+	private static void checkAvailable(int pos, int length, int end) throws IOException
+	{
+		if (pos + length > end)
+		{
+			throw new EOFException("Unexpected end of gzip data");
+		}
+	}
+
+	private static int readIntLE(byte[] b, int pos)
+	{
+		return b[pos] & 0xFF
+			| (b[pos + 1] & 0xFF) << 8
+			| (b[pos + 2] & 0xFF) << 16
+			| (b[pos + 3] & 0xFF) << 24;
+	}
+
+	private static void writeIntLE(OutputStream out, int i) throws IOException
+	{
+		out.write(i);
+		out.write(i >>> 8);
+		out.write(i >>> 16);
+		out.write(i >>> 24);
+	}
 }
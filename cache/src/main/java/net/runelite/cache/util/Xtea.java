@@ -24,8 +24,7 @@
  */
 package net.runelite.cache.util;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import java.util.Arrays;
 
 public class Xtea
 {
@@ -42,13 +41,33 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = Arrays.copyOf(data, len);
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = Arrays.copyOf(data, len);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt data in place. Only whole blocks are encrypted, any trailing
+	 * bytes are left as they are.
+	 *
+	 * @param data
+	 * @param off
+	 * @param len
+	 */
+	public void encrypt(byte[] data, int off, int len)
+	{
+		int end = off + (len & ~7);
+		for (int pos = off; pos < end; pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = readInt(data, pos);
+			int v1 = readInt(data, pos + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +75,26 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt data in place. Only whole blocks are decrypted, any trailing
+	 * bytes are left as they are.
+	 *
+	 * @param data
+	 * @param off
+	 * @param len
+	 */
+	public void decrypt(byte[] data, int off, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		int end = off + (len & ~7);
+		for (int pos = off; pos < end; pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = readInt(data, pos);
+			int v1 = readInt(data, pos + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +102,24 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
+	}
+
+	private static int readInt(byte[] b, int pos)
+	{
+		return (b[pos] & 0xFF) << 24
+			| (b[pos + 1] & 0xFF) << 16
+			| (b[pos + 2] & 0xFF) << 8
+			| b[pos + 3] & 0xFF;
+	}
+
+	private static void writeInt(byte[] b, int pos, int i)
+	{
+		b[pos] = (byte) (i >>> 24);
+		b[pos + 1] = (byte) (i >>> 16);
+		b[pos + 2] = (byte) (i >>> 8);
+		b[pos + 3] = (byte) i;
 	}
 }
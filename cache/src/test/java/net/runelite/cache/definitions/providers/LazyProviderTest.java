@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.providers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.SpriteManager;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class LazyProviderTest
+{
+	@Test
+	public void testProviders() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			CachedArchiveFilesProvider archiveFilesProvider = new CachedArchiveFilesProvider(new StoreArchiveFilesProvider(store), 16 * 1024 * 1024);
+
+			ItemManager itemManager = new ItemManager(store);
+			itemManager.load();
+
+			LazyItemProvider itemProvider = new LazyItemProvider(archiveFilesProvider, 16);
+			for (ItemDefinition item : itemManager.getItems())
+			{
+				assertEquals(item, itemProvider.provide(item.id));
+			}
+			assertNull(itemProvider.provide(-1));
+
+			SpriteManager spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			LazySpriteProvider spriteProvider = new LazySpriteProvider(archiveFilesProvider, 16);
+			for (SpriteDefinition sprite : spriteManager.getSprites())
+			{
+				assertEquals(sprite, spriteProvider.provide(sprite.getId(), sprite.getFrame()));
+			}
+
+			TextureManager textureManager = new TextureManager(store);
+			textureManager.load();
+
+			LazyTextureProvider textureProvider = new LazyTextureProvider(archiveFilesProvider);
+			assertArrayEquals(textureManager.provide(), textureProvider.provide());
+		}
+	}
+
+	@Test
+	public void testModelProvider() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			AtomicInteger modelReads = new AtomicInteger();
+			StoreArchiveFilesProvider storeProvider = new StoreArchiveFilesProvider(store);
+			CachedArchiveFilesProvider archiveFilesProvider = new CachedArchiveFilesProvider((indexId, archiveId) ->
+			{
+				if (indexId == IndexType.MODELS.getNumber())
+				{
+					modelReads.incrementAndGet();
+				}
+				return storeProvider.provide(indexId, archiveId);
+			}, 16 * 1024 * 1024);
+
+			LazyModelProvider modelProvider = new LazyModelProvider(archiveFilesProvider, 1);
+
+			List<Archive> archives = store.getIndex(IndexType.MODELS).getArchives();
+			Archive first = archives.get(0);
+			Archive second = archives.get(1);
+
+			ModelDefinition model = modelProvider.provide(first.getArchiveId());
+			assertEquals(decode(store, first), model);
+			assertSame(model, modelProvider.provide(first.getArchiveId()));
+			assertEquals(1, modelReads.get());
+
+			assertEquals(decode(store, second), modelProvider.provide(second.getArchiveId()));
+			assertEquals(2, modelReads.get());
+
+			// the first model was evicted, and its archive was not kept either
+			assertEquals(model, modelProvider.provide(first.getArchiveId()));
+			assertEquals(3, modelReads.get());
+
+			assertNull(modelProvider.provide(-1));
+		}
+	}
+
+	private static ModelDefinition decode(Store store, Archive archive) throws IOException
+	{
+		byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+		return new ModelLoader().load(archive.getArchiveId(), data);
+	}
+}
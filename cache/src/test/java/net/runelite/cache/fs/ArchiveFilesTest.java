@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ArchiveFilesTest
+{
+	@Test
+	public void testLoadViews()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 3; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(new byte[]
+			{
+				(byte) i, (byte) (i + 1), (byte) (i + 2)
+			});
+			files.addFile(file);
+		}
+
+		byte[] data = files.saveContents();
+
+		ArchiveFiles copies = newFiles(3);
+		copies.loadContents(data);
+
+		ArchiveFiles views = newFiles(3);
+		views.loadContents(data, true);
+
+		assertEquals(files, copies);
+		assertEquals(files, views);
+		assertEquals(3, views.findFile(1).getSize());
+		assertEquals(2, views.findFile(1).getStream().readUnsignedByte());
+	}
+
+	@Test
+	public void testLoadViewsChunked()
+	{
+		// two files, each split over two chunks
+		OutputStream stream = new OutputStream();
+		stream.writeBytes(new byte[]
+		{
+			1, 2, 3, 4, 5, 6
+		});
+		// chunk 0: file 0 has 1 byte, file 1 has 2 bytes
+		stream.writeInt(1);
+		stream.writeInt(1);
+		// chunk 1: file 0 has 2 bytes, file 1 has 1 byte
+		stream.writeInt(2);
+		stream.writeInt(-1);
+		stream.writeByte(2);
+		byte[] data = stream.flip();
+
+		ArchiveFiles copies = newFiles(2);
+		copies.loadContents(data);
+
+		ArchiveFiles views = newFiles(2);
+		views.loadContents(data, true);
+
+		assertArrayEquals(new byte[]
+		{
+			1, 4, 5
+		}, views.findFile(0).getContents());
+		assertArrayEquals(new byte[]
+		{
+			2, 3, 6
+		}, views.findFile(1).getContents());
+		assertEquals(copies, views);
+	}
+
+	private static ArchiveFiles newFiles(int count)
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < count; ++i)
+		{
+			files.addFile(new FSFile(i));
+		}
+		return files;
+	}
+}
@@ -25,9 +25,15 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +58,64 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testCompressionTypes() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[4096];
+		// compressible, but not trivially
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = (byte) random.nextInt(16);
+		}
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int[] k : new int[][]{null, keys})
+			{
+				Container container = new Container(compression, 7);
+				container.compress(data, k);
+				byte[] compressedData = container.data;
+				byte[] copy = Arrays.copyOf(compressedData, compressedData.length);
+
+				container = Container.decompress(compressedData, k);
+				assertArrayEquals(data, container.data);
+				assertEquals(compression, container.compression);
+				assertEquals(7, container.revision);
+				// decompressing must not modify the input
+				assertArrayEquals(copy, compressedData);
+			}
+		}
+	}
+
+	@Test
+	public void testCheckKeys() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		int[] wrongKeys = new int[]
+		{
+			4, 8, 15, 17
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{GZ, BZ2})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, keys);
+
+			assertTrue(Container.checkKeys(container.data, keys));
+			assertFalse(Container.checkKeys(container.data, wrongKeys));
+			assertFalse(Container.checkKeys(container.data, null));
+		}
+	}
+
 }
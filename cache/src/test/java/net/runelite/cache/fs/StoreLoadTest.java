@@ -27,7 +27,15 @@ package net.runelite.cache.fs;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.IndexType;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -77,4 +85,116 @@ public class StoreLoadTest
 			}
 		}
 	}
+
+	@Test
+	public void testLoadArchives() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Index index = store.getIndex(IndexType.CONFIGS);
+			Map<Archive, ArchiveFiles> loaded = new ConcurrentHashMap<>();
+			store.loadArchives(index.getArchives(), loaded::put);
+
+			Assert.assertEquals(index.getArchives().size(), loaded.size());
+
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = store.getStorage().loadArchive(archive);
+				Assert.assertEquals(archive.getFiles(data), loaded.get(archive));
+			}
+		}
+	}
+
+	@Test
+	public void testLoadArchivesErrorHandler() throws IOException
+	{
+		CorruptStorage storage = new CorruptStorage(new DiskStorage(StoreLocation.LOCATION));
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			Index index = store.getIndex(IndexType.CONFIGS);
+			storage.corrupt = index.getArchives().get(0);
+
+			Map<Archive, ArchiveFiles> loaded = new ConcurrentHashMap<>();
+			List<Archive> failed = Collections.synchronizedList(new ArrayList<>());
+			store.loadArchives(ForkJoinPool.commonPool(), index.getArchives(), archive -> null,
+				loaded::put, (archive, ex) -> failed.add(archive));
+
+			// the failed archive doesn't abort the others
+			Assert.assertEquals(Collections.singletonList(storage.corrupt), failed);
+			Assert.assertEquals(index.getArchives().size() - 1, loaded.size());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testLoadArchivesError() throws IOException
+	{
+		CorruptStorage storage = new CorruptStorage(new DiskStorage(StoreLocation.LOCATION));
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			Index index = store.getIndex(IndexType.CONFIGS);
+			storage.corrupt = index.getArchives().get(0);
+
+			store.loadArchives(index.getArchives(), (archive, files) ->
+			{
+			});
+		}
+	}
+
+	private static class CorruptStorage implements Storage
+	{
+		private final Storage storage;
+		private volatile Archive corrupt;
+
+		CorruptStorage(Storage storage)
+		{
+			this.storage = storage;
+		}
+
+		@Override
+		public void init(Store store) throws IOException
+		{
+			storage.init(store);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			storage.close();
+		}
+
+		@Override
+		public void load(Store store) throws IOException
+		{
+			storage.load(store);
+		}
+
+		@Override
+		public void save(Store store) throws IOException
+		{
+			storage.save(store);
+		}
+
+		@Override
+		public byte[] loadArchive(Archive archive) throws IOException
+		{
+			if (archive == corrupt)
+			{
+				// uncompressed container claiming more data than it has
+				return new byte[]{0, 0, 0, 0, 10};
+			}
+			return storage.loadArchive(archive);
+		}
+
+		@Override
+		public void saveArchive(Archive archive, byte[] data) throws IOException
+		{
+			storage.saveArchive(archive, data);
+		}
+	}
 }
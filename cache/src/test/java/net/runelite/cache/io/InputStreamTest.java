@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class InputStreamTest
+{
+	@Test
+	public void testRegion()
+	{
+		byte[] data = new byte[]{1, 2, 3, 4, 5, 6};
+
+		InputStream is = new InputStream(data, 2, 3);
+		assertEquals(0, is.getOffset());
+		assertEquals(3, is.getLength());
+		assertEquals(3, is.readByte());
+		assertEquals(4, is.readByte());
+		assertEquals(5, is.readByte());
+		assertEquals(0, is.remaining());
+	}
+
+	@Test
+	public void testGetArray()
+	{
+		byte[] data = new byte[]{1, 2, 3, 4, 5, 6};
+
+		assertSame(data, new InputStream(data).getArray());
+		// offsets of a region at the start of the array are still valid indexes
+		assertSame(data, new InputStream(data, 0, 3).getArray());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetArrayRegion()
+	{
+		byte[] data = new byte[]{1, 2, 3, 4, 5, 6};
+
+		new InputStream(data, 2, 3).getArray();
+	}
+}
@@ -24,7 +24,9 @@
  */
 package net.runelite.cache.util;
 
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class XteaTest
@@ -52,4 +54,28 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		// surrounding bytes must be left alone
+		byte[] buf = "..testtesttest1..".getBytes();
+		Xtea xtea = new Xtea(key);
+		xtea.encrypt(buf, 2, 13);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(buf, 2, 15));
+		assertEquals('.', buf[1]);
+		assertEquals('.', buf[15]);
+
+		xtea.decrypt(buf, 2, 13);
+		assertArrayEquals("..testtesttest1..".getBytes(), buf);
+	}
 }
@@ -36,6 +36,11 @@ import okhttp3.Response;
 
 public class ChatClient
 {
+	/**
+	 * The most kill counts the server looks up in one request
+	 */
+	public static final int MAX_KC_LOOKUP = 128;
+
 	public boolean submitKc(String username, String boss, int kc) throws IOException
 	{
 		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
@@ -80,6 +85,70 @@ public class ChatClient
 		}
 	}
 
+	/**
+	 * Look up the kill counts of several players at once. The server looks
+	 * up at most {@link #MAX_KC_LOOKUP} per request, so larger lookups are
+	 * split into several requests.
+	 *
+	 * @param usernames player names
+	 * @param bosses boss of each player, the same length as usernames
+	 * @return kill count of each player, in the same order as usernames, or
+	 * null where it is not known
+	 * @throws IOException
+	 */
+	public Integer[] getKcs(String[] usernames, String[] bosses) throws IOException
+	{
+		if (usernames.length != bosses.length)
+		{
+			throw new IllegalArgumentException("usernames and bosses must be the same length");
+		}
+
+		Integer[] kcs = new Integer[usernames.length];
+		for (int start = 0; start < usernames.length; start += MAX_KC_LOOKUP)
+		{
+			int end = Math.min(start + MAX_KC_LOOKUP, usernames.length);
+			Integer[] chunk = getKcs(usernames, bosses, start, end);
+			if (chunk.length != end - start)
+			{
+				throw new IOException("Expected " + (end - start) + " killcounts, got " + chunk.length);
+			}
+			System.arraycopy(chunk, 0, kcs, start, chunk.length);
+		}
+		return kcs;
+	}
+
+	private Integer[] getKcs(String[] usernames, String[] bosses, int start, int end) throws IOException
+	{
+		HttpUrl.Builder builder = RuneLiteAPI.getApiBase().newBuilder()
+			.addPathSegment("chat")
+			.addPathSegment("kcs");
+
+		for (int i = start; i < end; ++i)
+		{
+			builder.addQueryParameter("name", usernames[i])
+				.addQueryParameter("boss", bosses[i]);
+		}
+
+		Request request = new Request.Builder()
+			.url(builder.build())
+			.build();
+
+		try (Response response = RuneLiteAPI.CLIENT.newCall(request).execute())
+		{
+			if (!response.isSuccessful())
+			{
+				throw new IOException("Unable to look up killcounts!");
+			}
+
+			InputStream in = response.body().byteStream();
+			return RuneLiteAPI.GSON.fromJson(new InputStreamReader(in), Integer[].class);
+		}
+		catch (JsonParseException ex)
+		{
+			throw new IOException(ex);
+		}
+	}
+
 	public boolean submitQp(String username, int qp) throws IOException
 	{
 		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
@@ -140,4 +140,39 @@ public class ConfigClient
 			}
 		});
 	}
+
+	/**
+	 * Send a batch of changes in a single request. Entries with a null value
+	 * are unset.
+	 */
+	public void patch(Configuration changes)
+	{
+		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
+			.addPathSegment("config")
+			.build();
+
+		logger.debug("Built URI: {}", url);
+
+		Request request = new Request.Builder()
+			.patch(RequestBody.create(RuneLiteAPI.JSON, RuneLiteAPI.GSON.toJson(changes)))
+			.header(RuneLiteAPI.RUNELITE_AUTH, uuid.toString())
+			.url(url)
+			.build();
+
+		RuneLiteAPI.CLIENT.newCall(request).enqueue(new Callback()
+		{
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				logger.warn("Unable to synchronize configuration", e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				response.close();
+				logger.debug("Synchronized {} configuration values", changes.getConfig().size());
+			}
+		});
+	}
 }
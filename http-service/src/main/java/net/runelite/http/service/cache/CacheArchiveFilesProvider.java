@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.io.IOException;
+import net.runelite.cache.definitions.providers.ArchiveFilesProvider;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+
+/**
+ * Provides the archive files of one cache from the cache database and storage
+ */
+class CacheArchiveFilesProvider implements ArchiveFilesProvider
+{
+	private final CacheService cacheService;
+	private final CacheEntry cache;
+
+	CacheArchiveFilesProvider(CacheService cacheService, CacheEntry cache)
+	{
+		this.cacheService = cacheService;
+		this.cache = cache;
+	}
+
+	@Override
+	public ArchiveFiles provide(int indexId, int archiveId) throws IOException
+	{
+		IndexEntry indexEntry = cacheService.findIndexForCache(cache, indexId);
+		if (indexEntry == null)
+		{
+			return null;
+		}
+
+		ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, archiveId);
+		if (archiveEntry == null)
+		{
+			return null;
+		}
+
+		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
+		if (archiveFiles == null)
+		{
+			// the archive exists, so don't let a failed fetch be remembered as a missing archive
+			throw new IOException("unable to load archive " + indexId + "/" + archiveId + " of cache " + cache.getId());
+		}
+		return archiveFiles;
+	}
+}
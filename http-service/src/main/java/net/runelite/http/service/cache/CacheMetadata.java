@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
+
+/**
+ * The indexes and archives of one cache, which do not change once the
+ * cache has been published. Lookups return the same entries as the
+ * equivalent {@link CacheDAO} queries.
+ */
+class CacheMetadata
+{
+	private static class IndexArchives
+	{
+		private final List<ArchiveEntry> archives = new ArrayList<>();
+		private final Map<Integer, ArchiveEntry> archivesById = new HashMap<>();
+		private final Map<Integer, ArchiveEntry> archivesByName = new HashMap<>();
+	}
+
+	private final CacheEntry cache;
+	private final List<IndexEntry> indexes;
+	private final Map<Integer, IndexEntry> indexesById = new HashMap<>();
+	// keyed by the index's row id, as IndexEntry does not reference its cache
+	private final Map<Integer, IndexArchives> archivesByIndex = new HashMap<>();
+
+	private CacheMetadata(CacheEntry cache, List<IndexEntry> indexes)
+	{
+		this.cache = cache;
+		this.indexes = Collections.unmodifiableList(indexes);
+	}
+
+	static CacheMetadata load(Connection con, CacheEntry cache)
+	{
+		CacheDAO cacheDao = new CacheDAO();
+		CacheMetadata metadata = new CacheMetadata(cache, cacheDao.findIndexesForCache(con, cache));
+
+		for (IndexEntry indexEntry : metadata.indexes)
+		{
+			metadata.indexesById.putIfAbsent(indexEntry.getIndexId(), indexEntry);
+
+			IndexArchives indexArchives = new IndexArchives();
+			try (ResultSetIterable<ArchiveEntry> archiveEntries = cacheDao.findArchivesForIndex(con, indexEntry))
+			{
+				for (ArchiveEntry archiveEntry : archiveEntries)
+				{
+					indexArchives.archives.add(archiveEntry);
+					indexArchives.archivesById.putIfAbsent(archiveEntry.getArchiveId(), archiveEntry);
+					indexArchives.archivesByName.putIfAbsent(archiveEntry.getNameHash(), archiveEntry);
+				}
+			}
+			metadata.archivesByIndex.put(indexEntry.getId(), indexArchives);
+		}
+
+		return metadata;
+	}
+
+	CacheEntry getCache()
+	{
+		return cache;
+	}
+
+	boolean isFor(CacheEntry cacheEntry)
+	{
+		return cacheEntry != null && cacheEntry.getId() == cache.getId();
+	}
+
+	List<IndexEntry> getIndexes()
+	{
+		return indexes;
+	}
+
+	IndexEntry findIndex(int indexId)
+	{
+		return indexesById.get(indexId);
+	}
+
+	/**
+	 * Whether the index entry is one of this cache's indexes
+	 */
+	boolean contains(IndexEntry indexEntry)
+	{
+		return indexEntry != null && archivesByIndex.containsKey(indexEntry.getId());
+	}
+
+	List<ArchiveEntry> getArchives(IndexEntry indexEntry)
+	{
+		return Collections.unmodifiableList(archivesByIndex.get(indexEntry.getId()).archives);
+	}
+
+	ArchiveEntry findArchive(IndexEntry indexEntry, int archiveId)
+	{
+		return archivesByIndex.get(indexEntry.getId()).archivesById.get(archiveId);
+	}
+
+	ArchiveEntry findArchiveByName(int indexId, int nameHash)
+	{
+		IndexEntry indexEntry = indexesById.get(indexId);
+		if (indexEntry == null)
+		{
+			return null;
+		}
+		return archivesByIndex.get(indexEntry.getId()).archivesByName.get(nameHash);
+	}
+
+	int getArchiveCount()
+	{
+		return archivesByIndex.values().stream()
+			.mapToInt(indexArchives -> indexArchives.archives.size())
+			.sum();
+	}
+}
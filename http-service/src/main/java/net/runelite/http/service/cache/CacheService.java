@@ -24,7 +24,10 @@
  */
 package net.runelite.http.service.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import io.minio.MinioClient;
@@ -43,6 +46,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.ConfigType;
 import net.runelite.cache.IndexType;
@@ -59,6 +63,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
@@ -78,14 +83,24 @@ public class CacheService
 
 	private final MinioClient minioClient;
 
+	// archive data by hash, which never changes
+	private final Cache<HashCode, byte[]> archiveData;
+
+	private volatile CacheMetadata mostRecent;
+
 	@Autowired
 	public CacheService(
 		@Value("${minio.endpoint}") String minioEndpoint,
 		@Value("${minio.accesskey}") String accessKey,
-		@Value("${minio.secretkey}") String secretKey
+		@Value("${minio.secretkey}") String secretKey,
+		@Value("${runelite.cache.archive-data-cache-size:128}") long archiveDataCacheSize
 	) throws InvalidEndpointException, InvalidPortException
 	{
 		this.minioClient = new MinioClient(minioEndpoint, accessKey, secretKey);
+		this.archiveData = CacheBuilder.newBuilder()
+			.maximumWeight(archiveDataCacheSize * 1024 * 1024)
+			.<HashCode, byte[]>weigher((hash, data) -> data.length)
+			.build();
 	}
 
 	@Bean
@@ -101,6 +116,23 @@ public class CacheService
 	 * @return
 	 */
 	public byte[] getArchive(ArchiveEntry archiveEntry)
+	{
+		HashCode hash = HashCode.fromBytes(archiveEntry.getHash());
+		byte[] data = archiveData.getIfPresent(hash);
+		if (data != null)
+		{
+			return data;
+		}
+
+		data = fetchArchive(archiveEntry);
+		if (data != null)
+		{
+			archiveData.put(hash, data);
+		}
+		return data;
+	}
+
+	private byte[] fetchArchive(ArchiveEntry archiveEntry)
 	{
 		String hashStr = BaseEncoding.base16().encode(archiveEntry.getHash());
 		String path = new StringBuilder()
@@ -165,26 +197,91 @@ public class CacheService
 		}
 	}
 
-	public CacheEntry findCache(int cacheId)
+	/**
+	 * Get the metadata of the most recent cache, loading it if it has not been
+	 * loaded yet
+	 *
+	 * @return
+	 */
+	@Nullable
+	private CacheMetadata getMostRecent()
+	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata == null)
+		{
+			synchronized (this)
+			{
+				metadata = mostRecent;
+				if (metadata == null)
+				{
+					refreshMostRecent();
+					metadata = mostRecent;
+				}
+			}
+		}
+		return metadata;
+	}
+
+	/**
+	 * Load the metadata of the most recent cache if a new cache has been
+	 * published since it was last loaded. Lookups for other caches still go
+	 * to the database.
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public synchronized void refreshMostRecent()
 	{
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
-			return cacheDao.findCache(con, cacheId);
+			CacheEntry cache = cacheDao.findMostRecent(con);
+			if (cache == null)
+			{
+				return;
+			}
+
+			CacheMetadata metadata = mostRecent;
+			if (metadata != null && metadata.getCache().equals(cache))
+			{
+				return;
+			}
+
+			metadata = CacheMetadata.load(con, cache);
+			mostRecent = metadata;
+
+			log.info("Loaded metadata of cache {} (revision {}), {} indexes and {} archives",
+				cache.getId(), cache.getRevision(), metadata.getIndexes().size(), metadata.getArchiveCount());
 		}
 	}
 
-	public CacheEntry findMostRecent()
+	public CacheEntry findCache(int cacheId)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.getCache().getId() == cacheId)
+		{
+			return metadata.getCache();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
-			return cacheDao.findMostRecent(con);
+			return cacheDao.findCache(con, cacheId);
 		}
 	}
 
+	public CacheEntry findMostRecent()
+	{
+		CacheMetadata metadata = getMostRecent();
+		return metadata == null ? null : metadata.getCache();
+	}
+
 	public List<IndexEntry> findIndexesForCache(CacheEntry cacheEntry)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.isFor(cacheEntry))
+		{
+			return metadata.getIndexes();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -194,6 +291,12 @@ public class CacheService
 
 	public IndexEntry findIndexForCache(CacheEntry cahceEntry, int indexId)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.isFor(cahceEntry))
+		{
+			return metadata.findIndex(indexId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -203,6 +306,12 @@ public class CacheService
 
 	public List<ArchiveEntry> findArchivesForIndex(IndexEntry indexEntry)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.contains(indexEntry))
+		{
+			return metadata.getArchives(indexEntry);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -215,6 +324,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForIndex(IndexEntry indexEntry, int archiveId)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.contains(indexEntry))
+		{
+			return metadata.findArchive(indexEntry, archiveId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -224,6 +339,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForTypeAndName(CacheEntry cache, IndexType index, int nameHash)
 	{
+		CacheMetadata metadata = mostRecent;
+		if (metadata != null && metadata.isFor(cache))
+		{
+			return metadata.findArchiveByName(index.getNumber(), nameHash);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
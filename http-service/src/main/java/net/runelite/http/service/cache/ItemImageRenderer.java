@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import javax.imageio.ImageIO;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.loaders.SpriteLoader;
+import net.runelite.cache.definitions.providers.ArchiveFilesProvider;
+import net.runelite.cache.definitions.providers.CachedArchiveFilesProvider;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.LazyTextureProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.item.ItemSpriteFactory;
+
+/**
+ * Renders item images for one cache revision.
+ * <p>
+ * The decompressed archives are kept up to a total size, and the textures
+ * for the life of the renderer. ItemSpriteFactory modifies the items, models and sprites it is
+ * given, so those are decoded from the cached archives for each render
+ * instead of being shared. Rendered images are kept up to a total size.
+ */
+@Slf4j
+class ItemImageRenderer
+{
+	// rough size of an image cache entry aside from the png itself
+	private static final int IMAGE_ENTRY_OVERHEAD = 64;
+
+	@Value
+	static class ImageKey
+	{
+		private final int itemId;
+		private final int quantity;
+		private final int border;
+		private final int shadowColor;
+	}
+
+	private final CachedArchiveFilesProvider archives;
+	private final ItemProvider itemProvider = this::loadItem;
+	private final ModelProvider modelProvider = this::loadModel;
+	private final SpriteProvider spriteProvider = this::loadSprite;
+	private final TextureProvider textureProvider;
+	private final Cache<ImageKey, Optional<byte[]>> images;
+
+	ItemImageRenderer(ArchiveFilesProvider archiveFilesProvider, long maximumArchiveBytes, long maximumImageBytes)
+	{
+		this.archives = new CachedArchiveFilesProvider(archiveFilesProvider, maximumArchiveBytes);
+		this.textureProvider = new LazyTextureProvider(archives);
+		this.images = CacheBuilder.newBuilder()
+			.maximumWeight(maximumImageBytes)
+			.<ImageKey, Optional<byte[]>>weigher((key, image) -> IMAGE_ENTRY_OVERHEAD + image.map(i -> i.length).orElse(0))
+			.build();
+	}
+
+	/**
+	 * Get the png of an item image, rendering it on the given executor if it
+	 * has not been rendered before
+	 *
+	 * @param key
+	 * @param executor
+	 * @return the png, or null if the item or its model does not exist
+	 * @throws IOException
+	 */
+	byte[] getImage(ImageKey key, ExecutorService executor) throws IOException
+	{
+		try
+		{
+			// concurrent requests for the same image wait on a single render
+			return images.get(key, () -> Optional.ofNullable(executor.submit(() -> render(key)).get()))
+				.orElse(null);
+		}
+		catch (ExecutionException | UncheckedExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof ExecutionException)
+			{
+				cause = cause.getCause();
+			}
+			Throwables.throwIfInstanceOf(cause, IOException.class);
+			Throwables.throwIfUnchecked(cause);
+			throw new IOException(cause);
+		}
+	}
+
+	private byte[] render(ImageKey key) throws IOException
+	{
+		if (itemProvider.provide(key.getItemId()) == null)
+		{
+			return null;
+		}
+
+		BufferedImage image = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+			key.getItemId(), key.getQuantity(), key.getBorder(), key.getShadowColor(), false);
+		if (image == null)
+		{
+			return null;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private ItemDefinition loadItem(int itemId)
+	{
+		try
+		{
+			ArchiveFiles files = archives.provide(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId());
+			if (files == null)
+			{
+				return null;
+			}
+
+			FSFile file = files.findFile(itemId);
+			if (file == null)
+			{
+				return null;
+			}
+
+			return new ItemLoader().load(itemId, file.getStream());
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to load item {}", itemId, ex);
+			return null;
+		}
+	}
+
+	private ModelDefinition loadModel(int modelId) throws IOException
+	{
+		ArchiveFiles files = archives.provide(IndexType.MODELS.getNumber(), modelId);
+		if (files == null)
+		{
+			return null;
+		}
+
+		return new ModelLoader().load(modelId, files.getFiles().get(0).getContents());
+	}
+
+	private SpriteDefinition loadSprite(int spriteId, int frameId)
+	{
+		SpriteDefinition[] frames;
+		try
+		{
+			ArchiveFiles files = archives.provide(IndexType.SPRITES.getNumber(), spriteId);
+			if (files == null)
+			{
+				return null;
+			}
+
+			frames = new SpriteLoader().load(spriteId, files.getFiles().get(0).getContents());
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to load sprite {}", spriteId, ex);
+			return null;
+		}
+
+		if (frameId < 0 || frameId >= frames.length)
+		{
+			return null;
+		}
+		return frames[frameId];
+	}
+}
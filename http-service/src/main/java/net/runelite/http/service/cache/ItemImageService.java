@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ItemImageService
+{
+	// the most recent cache, and the one it replaced while requests for it finish
+	private static final int MAX_RENDERERS = 2;
+
+	private final CacheService cacheService;
+	private final ExecutorService renderExecutor;
+	private final LoadingCache<CacheEntry, ItemImageRenderer> renderers;
+
+	@Autowired
+	public ItemImageService(
+		CacheService cacheService,
+		@Value("${runelite.cache.image.render-threads:4}") int renderThreads,
+		@Value("${runelite.cache.image.archive-cache-size:64}") long archiveCacheSize,
+		@Value("${runelite.cache.image.image-cache-size:64}") long imageCacheSize
+	)
+	{
+		this.cacheService = cacheService;
+		this.renderExecutor = Executors.newFixedThreadPool(renderThreads, new ThreadFactoryBuilder()
+			.setNameFormat("item-image-render-%d")
+			.setDaemon(true)
+			.build());
+		this.renderers = CacheBuilder.newBuilder()
+			.maximumSize(MAX_RENDERERS)
+			.build(CacheLoader.from(cache -> new ItemImageRenderer(new CacheArchiveFilesProvider(cacheService, cache),
+				archiveCacheSize * 1024 * 1024, imageCacheSize * 1024 * 1024)));
+	}
+
+	@PreDestroy
+	public void shutdown()
+	{
+		renderExecutor.shutdownNow();
+	}
+
+	/**
+	 * Get the png of an item image from the most recent cache
+	 *
+	 * @param itemId
+	 * @param quantity
+	 * @param border
+	 * @param shadowColor
+	 * @return the png, or null if there is no cache or the item can't be rendered
+	 * @throws IOException
+	 */
+	@Nullable
+	public byte[] getItemImage(int itemId, int quantity, int border, int shadowColor) throws IOException
+	{
+		CacheEntry cache = cacheService.findMostRecent();
+		if (cache == null)
+		{
+			return null;
+		}
+
+		ItemImageRenderer renderer = renderers.getUnchecked(cache);
+		return renderer.getImage(new ItemImageRenderer.ImageKey(itemId, quantity, border, shadowColor), renderExecutor);
+	}
+}
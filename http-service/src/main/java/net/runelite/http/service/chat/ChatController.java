@@ -26,14 +26,18 @@ package net.runelite.http.service.chat;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import net.runelite.http.api.chat.ChatClient;
 import net.runelite.http.api.chat.Duels;
 import net.runelite.http.api.chat.LayoutRoom;
 import net.runelite.http.api.chat.Task;
 import net.runelite.http.service.util.exception.NotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -48,6 +52,7 @@ public class ChatController
 	private static final Pattern STRING_VALIDATION = Pattern.compile("[^a-zA-Z0-9' -]");
 	private static final int STRING_MAX_LENGTH = 50;
 	private static final int MAX_LAYOUT_ROOMS = 16;
+	private static final int MAX_BATCH_LOOKUP = ChatClient.MAX_KC_LOOKUP;
 
 	private final Cache<KillCountKey, Integer> killCountCache = CacheBuilder.newBuilder()
 		.expireAfterWrite(2, TimeUnit.MINUTES)
@@ -89,6 +94,59 @@ public class ChatController
 		return kc;
 	}
 
+	/**
+	 * Look up several kill counts at once. names and bosses are paired up by
+	 * position, and the kill count of each pair is returned in the same
+	 * position, or null if it is not known. At most {@link ChatClient#MAX_KC_LOOKUP}
+	 * kill counts can be looked up per request, larger requests are rejected
+	 * with 400.
+	 */
+	@GetMapping("/kcs")
+	public ResponseEntity<Integer[]> getKcs(@RequestParam("name") String[] names, @RequestParam("boss") String[] bosses)
+	{
+		if (names.length != bosses.length || names.length > MAX_BATCH_LOOKUP)
+		{
+			return ResponseEntity.badRequest().build();
+		}
+
+		Integer[] kcs = new Integer[names.length];
+		List<Integer> missing = new ArrayList<>();
+
+		for (int i = 0; i < names.length; ++i)
+		{
+			kcs[i] = killCountCache.getIfPresent(new KillCountKey(names[i], bosses[i]));
+			if (kcs[i] == null)
+			{
+				missing.add(i);
+			}
+		}
+
+		if (missing.isEmpty())
+		{
+			return ResponseEntity.ok(kcs);
+		}
+
+		String[] missingNames = new String[missing.size()];
+		String[] missingBosses = new String[missing.size()];
+		for (int i = 0; i < missing.size(); ++i)
+		{
+			missingNames[i] = names[missing.get(i)];
+			missingBosses[i] = bosses[missing.get(i)];
+		}
+
+		Integer[] found = chatService.getKcs(missingNames, missingBosses);
+		for (int i = 0; i < found.length; ++i)
+		{
+			if (found[i] != null)
+			{
+				kcs[missing.get(i)] = found[i];
+				killCountCache.put(new KillCountKey(missingNames[i], missingBosses[i]), found[i]);
+			}
+		}
+
+		return ResponseEntity.ok(kcs);
+	}
+
 	@PostMapping("/qp")
 	public void submitQp(@RequestParam String name, @RequestParam int qp)
 	{
@@ -37,6 +37,7 @@ import net.runelite.http.service.util.redis.RedisPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 @Service
 public class ChatService
@@ -53,48 +54,66 @@ public class ChatService
 
 	public Integer getKc(String name, String boss)
 	{
-		String value;
+		return getInt(kcKey(name, boss));
+	}
+
+	/**
+	 * Look up the kill counts of several players in a single round trip.
+	 *
+	 * @param names player names
+	 * @param bosses boss of each player, the same length as names
+	 * @return kill count of each player, or null where it is not known
+	 */
+	public Integer[] getKcs(String[] names, String[] bosses)
+	{
+		if (names.length != bosses.length)
+		{
+			throw new IllegalArgumentException("names and bosses must be the same length");
+		}
+
+		if (names.length == 0)
+		{
+			return new Integer[0];
+		}
+
+		String[] keys = new String[names.length];
+		for (int i = 0; i < names.length; ++i)
+		{
+			keys[i] = kcKey(names[i], bosses[i]);
+		}
+
+		List<String> values;
 		try (Jedis jedis = jedisPool.getResource())
 		{
-			value = jedis.get("kc." + name + "." + boss);
+			values = jedis.mget(keys);
 		}
-		return value == null ? null : Integer.parseInt(value);
+
+		Integer[] kcs = new Integer[values.size()];
+		for (int i = 0; i < kcs.length; ++i)
+		{
+			kcs[i] = decodeInt(values.get(i));
+		}
+		return kcs;
 	}
 
 	public void setKc(String name, String boss, int kc)
 	{
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.setex("kc." + name + "." + boss, (int) EXPIRE.getSeconds(), Integer.toString(kc));
-		}
+		setInt(kcKey(name, boss), kc);
 	}
 
 	public Integer getQp(String name)
 	{
-		String value;
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			value = jedis.get("qp." + name);
-		}
-		return value == null ? null : Integer.parseInt(value);
+		return getInt("qp." + name);
 	}
 
 	public void setQp(String name, int qp)
 	{
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.setex("qp." + name, (int) EXPIRE.getSeconds(), Integer.toString(qp));
-		}
+		setInt("qp." + name, qp);
 	}
 
 	public Task getTask(String name)
 	{
-		Map<String, String> map;
-
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			map = jedis.hgetAll("task." + name);
-		}
+		Map<String, String> map = getMap("task." + name);
 
 		if (map.isEmpty())
 		{
@@ -118,59 +137,32 @@ public class ChatService
 			.put("location", task.getLocation())
 			.build();
 
-		String key = "task." + name;
-
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.hmset(key, taskMap);
-			jedis.expire(key, (int) EXPIRE.getSeconds());
-		}
+		setMap("task." + name, taskMap);
 	}
 
 	public Integer getPb(String name, String boss)
 	{
-		String value;
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			value = jedis.get("pb." + boss + "." + name);
-		}
-		return value == null ? null : Integer.parseInt(value);
+		return getInt("pb." + boss + "." + name);
 	}
 
 	public void setPb(String name, String boss, int pb)
 	{
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.setex("pb." + boss + "." + name, (int) EXPIRE.getSeconds(), Integer.toString(pb));
-		}
+		setInt("pb." + boss + "." + name, pb);
 	}
 
 	public Integer getGc(String name)
 	{
-		String value;
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			value = jedis.get("gc." + name);
-		}
-		return value == null ? null : Integer.parseInt(value);
+		return getInt("gc." + name);
 	}
 
 	public void setGc(String name, int gc)
 	{
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.setex("gc." + name, (int) EXPIRE.getSeconds(), Integer.toString(gc));
-		}
+		setInt("gc." + name, gc);
 	}
 
 	public Duels getDuels(String name)
 	{
-		Map<String, String> map;
-
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			map = jedis.hgetAll("duels." + name);
-		}
+		Map<String, String> map = getMap("duels." + name);
 
 		if (map.isEmpty())
 		{
@@ -194,22 +186,12 @@ public class ChatService
 			.put("losingStreak", Integer.toString(duels.getLosingStreak()))
 			.build();
 
-		String key = "duels." + name;
-
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			jedis.hmset(key, duelsMap);
-			jedis.expire(key, (int) EXPIRE.getSeconds());
-		}
+		setMap("duels." + name, duelsMap);
 	}
 
 	public LayoutRoom[] getLayout(String name)
 	{
-		String layout;
-		try (Jedis jedis = jedisPool.getResource())
-		{
-			layout = jedis.get("layout." + name);
-		}
+		String layout = get("layout." + name);
 
 		if (layout == null)
 		{
@@ -223,10 +205,63 @@ public class ChatService
 	}
 
 	public void setLayout(String name, LayoutRoom[] rooms)
+	{
+		set("layout." + name, Joiner.on(' ').join(rooms));
+	}
+
+	private static String kcKey(String name, String boss)
+	{
+		return "kc." + name + "." + boss;
+	}
+
+	private static Integer decodeInt(String value)
+	{
+		return value == null ? null : Integer.parseInt(value);
+	}
+
+	private String get(String key)
+	{
+		try (Jedis jedis = jedisPool.getResource())
+		{
+			return jedis.get(key);
+		}
+	}
+
+	private void set(String key, String value)
+	{
+		try (Jedis jedis = jedisPool.getResource())
+		{
+			jedis.setex(key, (int) EXPIRE.getSeconds(), value);
+		}
+	}
+
+	private Integer getInt(String key)
+	{
+		return decodeInt(get(key));
+	}
+
+	private void setInt(String key, int value)
+	{
+		set(key, Integer.toString(value));
+	}
+
+	private Map<String, String> getMap(String key)
+	{
+		try (Jedis jedis = jedisPool.getResource())
+		{
+			return jedis.hgetAll(key);
+		}
+	}
+
+	private void setMap(String key, Map<String, String> map)
 	{
 		try (Jedis jedis = jedisPool.getResource())
 		{
-			jedis.setex("layout." + name, (int) EXPIRE.getSeconds(), Joiner.on(' ').join(rooms));
+			// pipeline the expire with the write so it is one round trip
+			Pipeline pipeline = jedis.pipelined();
+			pipeline.hmset(key, map);
+			pipeline.expire(key, (int) EXPIRE.getSeconds());
+			pipeline.sync();
 		}
 	}
 }
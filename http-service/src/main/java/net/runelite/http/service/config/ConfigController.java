@@ -25,8 +25,11 @@
 package net.runelite.http.service.config;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import net.runelite.http.api.config.ConfigEntry;
 import net.runelite.http.api.config.Configuration;
 import net.runelite.http.service.account.AuthFilter;
 import net.runelite.http.service.account.beans.SessionEntry;
@@ -36,6 +39,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import static org.springframework.web.bind.annotation.RequestMethod.DELETE;
+import static org.springframework.web.bind.annotation.RequestMethod.PATCH;
 import static org.springframework.web.bind.annotation.RequestMethod.PUT;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -106,4 +110,33 @@ public class ConfigController
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
 		}
 	}
+
+	/**
+	 * Apply a batch of config changes at once. Entries with a value are set,
+	 * and entries without one are unset.
+	 *
+	 * @return the keys of any entries which were rejected
+	 */
+	@RequestMapping(method = PATCH)
+	public List<String> patch(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		@RequestBody Configuration changes
+	) throws IOException
+	{
+		SessionEntry session = authFilter.handle(request, response);
+
+		if (session == null)
+		{
+			return null;
+		}
+
+		List<ConfigEntry> config = changes.getConfig();
+		if (config == null)
+		{
+			return Collections.emptyList();
+		}
+
+		return configService.patch(session.getUser(), config);
+	}
 }
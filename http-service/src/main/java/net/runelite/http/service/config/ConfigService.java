@@ -38,11 +38,13 @@ import static com.mongodb.client.model.Filters.eq;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.UpdateOptions;
+import static com.mongodb.client.model.Updates.combine;
 import static com.mongodb.client.model.Updates.set;
 import static com.mongodb.client.model.Updates.unset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
@@ -50,6 +52,7 @@ import net.runelite.http.api.RuneLiteAPI;
 import net.runelite.http.api.config.ConfigEntry;
 import net.runelite.http.api.config.Configuration;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -137,13 +140,8 @@ public class ConfigService
 		@Nullable String value
 	)
 	{
-		if (key.startsWith("$") || key.startsWith("_"))
-		{
-			return false;
-		}
-
-		String[] split = key.split("\\.", 2);
-		if (split.length != 2)
+		String path = configPath(key);
+		if (path == null)
 		{
 			return false;
 		}
@@ -155,7 +153,7 @@ public class ConfigService
 
 		Object jsonValue = parseJsonString(value);
 		mongoCollection.updateOne(eq("_userId", userId),
-			set(split[0] + "." + split[1].replace('.', ':'), jsonValue),
+			set(path, jsonValue),
 			upsertUpdateOptions);
 		return true;
 	}
@@ -165,20 +163,94 @@ public class ConfigService
 		String key
 	)
 	{
-		if (key.startsWith("$") || key.startsWith("_"))
+		String path = configPath(key);
+		if (path == null)
 		{
 			return false;
 		}
 
+		mongoCollection.updateOne(eq("_userId", userId),
+			unset(path));
+		return true;
+	}
+
+	/**
+	 * Apply a batch of changes in a single update. Each entry is a set, or an
+	 * unset if its value is null, and is validated the same as
+	 * {@link #setKey(int, String, String)} and {@link #unsetKey(int, String)}.
+	 * Invalid entries are skipped without affecting the others.
+	 *
+	 * @param userId
+	 * @param changes
+	 * @return the keys of the entries which were rejected
+	 */
+	public List<String> patch(
+		int userId,
+		List<ConfigEntry> changes
+	)
+	{
+		List<String> rejected = new ArrayList<>();
+		// the same path can only appear once in an update, so the last change to it wins
+		Map<String, Bson> updates = new LinkedHashMap<>();
+		boolean upsert = false;
+
+		for (ConfigEntry entry : changes)
+		{
+			String key = entry.getKey();
+			String value = entry.getValue();
+
+			String path = key == null ? null : configPath(key);
+			if (path == null)
+			{
+				rejected.add(key);
+				continue;
+			}
+
+			if (value == null)
+			{
+				updates.put(path, unset(path));
+				continue;
+			}
+
+			if (!validateJson(value))
+			{
+				rejected.add(key);
+				continue;
+			}
+
+			updates.put(path, set(path, parseJsonString(value)));
+			upsert = true;
+		}
+
+		if (!updates.isEmpty())
+		{
+			// only sets create the document, matching setKey and unsetKey
+			mongoCollection.updateOne(eq("_userId", userId),
+				combine(new ArrayList<>(updates.values())),
+				new UpdateOptions().upsert(upsert));
+		}
+
+		return rejected;
+	}
+
+	/**
+	 * Get the document path of a config key, or null if the key is not valid
+	 */
+	@Nullable
+	private static String configPath(String key)
+	{
+		if (key.startsWith("$") || key.startsWith("_"))
+		{
+			return null;
+		}
+
 		String[] split = key.split("\\.", 2);
 		if (split.length != 2)
 		{
-			return false;
+			return null;
 		}
 
-		mongoCollection.updateOne(eq("_userId", userId),
-			unset(split[0] + "." + split[1].replace('.', ':')));
-		return true;
+		return split[0] + "." + split[1].replace('.', ':');
 	}
 
 	@VisibleForTesting
@@ -24,13 +24,8 @@
  */
 package net.runelite.http.service.item;
 
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hasher;
-import com.google.common.hash.Hashing;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
@@ -42,12 +37,16 @@ import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.SearchResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/item")
@@ -56,49 +55,16 @@ public class ItemController
 	private static final String RUNELITE_CACHE = "RuneLite-Cache";
 	private static final int MAX_BATCH_LOOKUP = 1024;
 
-	private static class MemoizedPrices
-	{
-		final ItemPrice[] prices;
-		final String hash;
-
-		MemoizedPrices(ItemPrice[] prices)
-		{
-			this.prices = prices;
-
-			Hasher hasher = Hashing.sha256().newHasher();
-			for (ItemPrice itemPrice : prices)
-			{
-				hasher.putInt(itemPrice.getId()).putInt(itemPrice.getPrice());
-			}
-			HashCode code = hasher.hash();
-			hash = code.toString();
-		}
-	}
-
 	private final Cache<Integer, Integer> cachedEmpty = CacheBuilder.newBuilder()
 		.maximumSize(1024L)
 		.build();
 
 	private final ItemService itemService;
 
-	private final Supplier<MemoizedPrices> memoizedPrices;
-
 	@Autowired
 	public ItemController(ItemService itemService)
 	{
 		this.itemService = itemService;
-
-		memoizedPrices = Suppliers.memoizeWithExpiration(() -> new MemoizedPrices(itemService.fetchPrices().stream()
-			.map(priceEntry ->
-			{
-				ItemPrice itemPrice = new ItemPrice();
-				itemPrice.setId(priceEntry.getItem());
-				itemPrice.setName(priceEntry.getName());
-				itemPrice.setPrice(priceEntry.getPrice());
-				itemPrice.setTime(priceEntry.getTime());
-				return itemPrice;
-			})
-			.toArray(ItemPrice[]::new)), 30, TimeUnit.MINUTES);
 	}
 
 	@GetMapping("/{itemId}")
@@ -227,25 +193,34 @@ public class ItemController
 		List<PriceEntry> prices = itemService.getPrices(itemIds);
 
 		return prices.stream()
-			.map(priceEntry ->
-			{
-				ItemPrice itemPrice = new ItemPrice();
-				itemPrice.setId(priceEntry.getItem());
-				itemPrice.setName(priceEntry.getName());
-				itemPrice.setPrice(priceEntry.getPrice());
-				itemPrice.setTime(priceEntry.getTime());
-				return itemPrice;
-			})
+			.map(PriceEntry::toItemPrice)
 			.toArray(ItemPrice[]::new);
 	}
 
 	@GetMapping("/prices")
-	public ResponseEntity<ItemPrice[]> prices()
+	public ResponseEntity<byte[]> prices(WebRequest request,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
 	{
-		MemoizedPrices memorizedPrices = this.memoizedPrices.get();
-		return ResponseEntity.ok()
-			.eTag(memorizedPrices.hash)
-			.cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES).cachePublic())
-			.body(memorizedPrices.prices);
+		PriceSnapshot snapshot = itemService.getPriceSnapshot();
+
+		if (request.checkNotModified(snapshot.hash))
+		{
+			return null; // 304 has been set up by checkNotModified
+		}
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON_UTF8)
+			.eTag(snapshot.hash)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING)
+			.cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES).cachePublic());
+
+		if (acceptEncoding != null && acceptEncoding.contains("gzip"))
+		{
+			return builder
+				.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+				.body(snapshot.gzip);
+		}
+
+		return builder.body(snapshot.json);
 	}
 }
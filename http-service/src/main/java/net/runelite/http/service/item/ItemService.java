@@ -24,21 +24,28 @@
  */
 package net.runelite.http.service.item;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonParseException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.ItemType;
 import net.runelite.http.service.cache.CacheService;
 import okhttp3.HttpUrl;
@@ -83,12 +90,21 @@ public class ItemService
 		+ ") ENGINE=InnoDB";
 
 	private static final int MAX_PENDING = 512;
+	private static final int PRICE_LOOKUP_CHUNK = 256; // ids per batched price query
+	private static final long MAX_CACHED_EMPTY = 8192L;
 
 	private final Sql2o sql2o;
 	private final CacheService cacheService;
 
 	private final ConcurrentLinkedQueue<PendingLookup> pendingLookups = new ConcurrentLinkedQueue<PendingLookup>();
 	private int[] tradeableItems;
+	// latest known price of each item, kept up to date by the crawler
+	private final ConcurrentMap<Integer, PriceEntry> latestPrices = new ConcurrentHashMap<>();
+	// items which had no price when last looked up, until the crawler or a reload finds one
+	private final Cache<Integer, Integer> cachedEmpty = CacheBuilder.newBuilder()
+		.maximumSize(MAX_CACHED_EMPTY)
+		.build();
+	private volatile PriceSnapshot priceSnapshot;
 	private final Random random = new Random();
 
 	@Autowired
@@ -145,33 +161,100 @@ public class ItemService
 		}
 	}
 
+	/**
+	 * Get the latest price of each of the given items, in the order they
+	 * were requested. Items without a price are omitted, and duplicate
+	 * ids are returned once.
+	 */
 	public List<PriceEntry> getPrices(int... itemIds)
 	{
-		try (Connection con = sql2o.open())
+		Set<Integer> requested = new LinkedHashSet<>(itemIds.length);
+		for (int itemId : itemIds)
 		{
-			Set<Integer> seen = new HashSet<>();
-			List<PriceEntry> priceEntries = new ArrayList<>(itemIds.length);
+			requested.add(itemId);
+		}
 
-			for (int itemId : itemIds)
+		Map<Integer, PriceEntry> found = new HashMap<>(requested.size());
+		List<Integer> missing = new ArrayList<>();
+
+		for (int itemId : requested)
+		{
+			PriceEntry priceEntry = latestPrices.get(itemId);
+			if (priceEntry != null)
 			{
-				if (seen.contains(itemId))
+				found.put(itemId, priceEntry);
+			}
+			else if (cachedEmpty.getIfPresent(itemId) == null)
+			{
+				missing.add(itemId);
+			}
+		}
+
+		if (!missing.isEmpty())
+		{
+			try (Connection con = sql2o.open())
+			{
+				for (int i = 0; i < missing.size(); i += PRICE_LOOKUP_CHUNK)
 				{
-					continue;
-				}
-				seen.add(itemId);
+					List<Integer> chunk = missing.subList(i, Math.min(i + PRICE_LOOKUP_CHUNK, missing.size()));
 
-				PriceEntry priceEntry = getPrice(con, itemId, null);
+					for (PriceEntry priceEntry : getLatestPrices(con, chunk))
+					{
+						found.put(priceEntry.getItem(), priceEntry);
+						updateLatestPrice(priceEntry);
+					}
+				}
+			}
 
-				if (priceEntry == null)
+			for (int itemId : missing)
+			{
+				if (!found.containsKey(itemId))
 				{
-					continue;
+					cachedEmpty.put(itemId, itemId); // cache empty
 				}
+			}
+		}
 
+		List<PriceEntry> priceEntries = new ArrayList<>(found.size());
+		for (int itemId : requested)
+		{
+			PriceEntry priceEntry = found.get(itemId);
+			if (priceEntry != null)
+			{
 				priceEntries.add(priceEntry);
 			}
+		}
+		return priceEntries;
+	}
 
-			return priceEntries;
+	/**
+	 * Look up the most recent price of each of the given items in a single query.
+	 * Items without a price are omitted from the result.
+	 */
+	private List<PriceEntry> getLatestPrices(Connection con, List<Integer> itemIds)
+	{
+		// sql2o can't bind lists, but the ids are integers so can be inlined
+		StringBuilder ids = new StringBuilder();
+		for (int itemId : itemIds)
+		{
+			if (ids.length() > 0)
+			{
+				ids.append(',');
+			}
+			ids.append(itemId);
 		}
+
+		return con.createQuery("select t2.item, t3.name, t2.time, prices.price, prices.fetched_time from (select t1.item as item, max(t1.time) as time from prices t1 where t1.item in (" + ids + ") group by item) t2 " +
+				" join prices on t2.item=prices.item and t2.time=prices.time" +
+				" join items t3 on t2.item=t3.id")
+			.executeAndFetch(PriceEntry.class);
+	}
+
+	private void updateLatestPrice(PriceEntry priceEntry)
+	{
+		cachedEmpty.invalidate(priceEntry.getItem());
+		latestPrices.merge(priceEntry.getItem(), priceEntry,
+			(cur, entry) -> entry.getTime().isBefore(cur.getTime()) ? cur : entry);
 	}
 
 	public List<ItemEntry> search(String search)
@@ -472,7 +555,8 @@ public class ItemService
 		int idx = random.nextInt(tradeableItems.length);
 		int id = tradeableItems[idx];
 
-		if (getItem(id) == null)
+		ItemEntry item = getItem(id);
+		if (item == null)
 		{
 			// This is a new item..
 			log.debug("Fetching new item {}", id);
@@ -482,7 +566,60 @@ public class ItemService
 
 		log.debug("Fetching price for {}", id);
 
-		fetchPrice(id);
+		List<PriceEntry> prices = fetchPrice(id);
+		if (prices != null)
+		{
+			prices.stream()
+				.max(Comparator.comparing(PriceEntry::getTime))
+				.ifPresent(priceEntry ->
+				{
+					priceEntry.setName(item.getName());
+					updateLatestPrice(priceEntry);
+				});
+		}
+	}
+
+	/**
+	 * Get the snapshot of the latest prices of all items. This is only
+	 * built on the calling thread if the first scheduled reload has not
+	 * yet finished.
+	 */
+	public PriceSnapshot getPriceSnapshot()
+	{
+		PriceSnapshot snapshot = priceSnapshot;
+		if (snapshot == null)
+		{
+			synchronized (this)
+			{
+				snapshot = priceSnapshot;
+				if (snapshot == null)
+				{
+					reloadPrices();
+					snapshot = priceSnapshot;
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	@Scheduled(fixedDelay = 1_800_000) // 30 minutes
+	public synchronized void reloadPrices()
+	{
+		List<PriceEntry> priceEntries = fetchPrices();
+
+		// picks up prices crawled by other instances
+		for (PriceEntry priceEntry : priceEntries)
+		{
+			updateLatestPrice(priceEntry);
+		}
+
+		ItemPrice[] prices = priceEntries.stream()
+			.map(PriceEntry::toItemPrice)
+			.toArray(ItemPrice[]::new);
+		priceSnapshot = new PriceSnapshot(prices);
+
+		log.debug("Loaded {} latest prices, snapshot is {} bytes ({} compressed)",
+			prices.length, priceSnapshot.json.length, priceSnapshot.gzip.length);
 	}
 
 	@Scheduled(fixedDelay = 1_8000_000) // 30 minutes
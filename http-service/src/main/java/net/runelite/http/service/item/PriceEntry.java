@@ -26,6 +26,7 @@ package net.runelite.http.service.item;
 
 import java.time.Instant;
 import lombok.Data;
+import net.runelite.http.api.item.ItemPrice;
 
 @Data
 class PriceEntry
@@ -35,4 +36,14 @@ class PriceEntry
 	private int price;
 	private Instant time;
 	private Instant fetched_time;
+
+	public ItemPrice toItemPrice()
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(item);
+		itemPrice.setName(name);
+		itemPrice.setPrice(price);
+		itemPrice.setTime(time);
+		return itemPrice;
+	}
 }
@@ -24,31 +24,65 @@
  */
 package net.runelite.http.service.util.redis;
 
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import redis.clients.jedis.Jedis;
 
 @Component
+@Slf4j
 public class RedisPool
 {
-	private final BlockingQueue<Jedis> queue;
+	private final String redisHost;
+	private final int maxSize;
+	private final BlockingQueue<Jedis> queue = new LinkedBlockingQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
 
-	RedisPool(@Value("${redis.pool.size:10}") int queueSize, @Value("${redis.host:localhost}") String redisHost)
+	private final AtomicLong borrowed = new AtomicLong();
+	private final AtomicLong waited = new AtomicLong();
+	private final AtomicLong timeouts = new AtomicLong();
+
+	RedisPool(@Value("${redis.pool.size:10}") int queueSize,
+		@Value("${redis.pool.max-size:50}") int maxSize,
+		@Value("${redis.host:localhost}") String redisHost)
 	{
-		queue = new ArrayBlockingQueue<>(queueSize);
+		this.redisHost = redisHost;
+		this.maxSize = Math.max(queueSize, maxSize);
+
 		for (int i = 0; i < queueSize; ++i)
 		{
 			Jedis jedis = new PooledJedis(redisHost);
 			queue.offer(jedis);
 		}
+		size.set(queueSize);
 	}
 
 	public Jedis getResource()
 	{
-		Jedis jedis;
+		borrowed.incrementAndGet();
+
+		Jedis jedis = queue.poll();
+		if (jedis != null)
+		{
+			return jedis;
+		}
+
+		// grow the pool rather than wait, up to the maximum size
+		for (int cur = size.get(); cur < maxSize; cur = size.get())
+		{
+			if (size.compareAndSet(cur, cur + 1))
+			{
+				log.debug("Growing redis pool to {} connections", cur + 1);
+				return new PooledJedis(redisHost);
+			}
+		}
+
+		waited.incrementAndGet();
 		try
 		{
 			jedis = queue.poll(1, TimeUnit.SECONDS);
@@ -59,11 +93,24 @@ public class RedisPool
 		}
 		if (jedis == null)
 		{
+			timeouts.incrementAndGet();
 			throw new RuntimeException("Unable to acquire connection from pool, timeout");
 		}
 		return jedis;
 	}
 
+	public RedisPoolStats getStats()
+	{
+		RedisPoolStats stats = new RedisPoolStats();
+		stats.setSize(size.get());
+		stats.setIdle(queue.size());
+		stats.setMaxSize(maxSize);
+		stats.setBorrowed(borrowed.get());
+		stats.setWaited(waited.get());
+		stats.setTimeouts(timeouts.get());
+		return stats;
+	}
+
 	class PooledJedis extends Jedis
 	{
 		PooledJedis(String host)
@@ -74,6 +121,14 @@ public class RedisPool
 		@Override
 		public void close()
 		{
+			if (getClient().isBroken())
+			{
+				// drop the connection, it will be replaced on demand
+				disconnect();
+				size.decrementAndGet();
+				return;
+			}
+
 			queue.offer(this);
 		}
 	}
@@ -26,12 +26,27 @@ package net.runelite.http.service.xp;
 
 import com.google.common.hash.BloomFilter;
 import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.http.api.hiscore.HiscoreEndpoint;
 import net.runelite.http.api.hiscore.HiscoreResult;
@@ -41,9 +56,11 @@ import net.runelite.http.service.xp.beans.PlayerEntity;
 import net.runelite.http.service.xp.beans.XpEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
+import org.sql2o.Query;
 import org.sql2o.Sql2o;
 
 @Service
@@ -51,17 +68,84 @@ import org.sql2o.Sql2o;
 public class XpTrackerService
 {
 	private static final int QUEUE_LIMIT = 32768;
+	private static final int RESULT_QUEUE_LIMIT = 4096;
 	private static final int BLOOMFILTER_EXPECTED_INSERTIONS = 100_000;
 
-	@Autowired
-	@Qualifier("Runelite XP Tracker SQL2O")
-	private Sql2o sql2o;
+	private static final String INSERT_XP = "insert into xp (player,attack_xp,defence_xp,strength_xp,hitpoints_xp,ranged_xp,prayer_xp,magic_xp,cooking_xp,woodcutting_xp,"
+		+ "fletching_xp,fishing_xp,firemaking_xp,crafting_xp,smithing_xp,mining_xp,herblore_xp,agility_xp,thieving_xp,slayer_xp,farming_xp,"
+		+ "runecraft_xp,hunter_xp,construction_xp,attack_rank,defence_rank,strength_rank,hitpoints_rank,ranged_rank,prayer_rank,magic_rank,"
+		+ "cooking_rank,woodcutting_rank,fletching_rank,fishing_rank,firemaking_rank,crafting_rank,smithing_rank,mining_rank,herblore_rank,"
+		+ "agility_rank,thieving_rank,slayer_rank,farming_rank,runecraft_rank,hunter_rank,construction_rank,overall_rank) values (:player,:attack_xp,:defence_xp,"
+		+ ":strength_xp,:hitpoints_xp,:ranged_xp,:prayer_xp,:magic_xp,:cooking_xp,:woodcutting_xp,:fletching_xp,:fishing_xp,:firemaking_xp,"
+		+ ":crafting_xp,:smithing_xp,:mining_xp,:herblore_xp,:agility_xp,:thieving_xp,:slayer_xp,:farming_xp,:runecraft_xp,:hunter_xp,"
+		+ ":construction_xp,:attack_rank,:defence_rank,:strength_rank,:hitpoints_rank,:ranged_rank,:prayer_rank,:magic_rank,:cooking_rank,"
+		+ ":woodcutting_rank,:fletching_rank,:fishing_rank,:firemaking_rank,:crafting_rank,:smithing_rank,:mining_rank,:herblore_rank,"
+		+ ":agility_rank,:thieving_rank,:slayer_rank,:farming_rank,:runecraft_rank,:hunter_rank,:construction_rank,:overall_rank)";
+
+	@Data
+	private static class PendingUpdate
+	{
+		private final String username;
+		private final Instant queued;
+	}
+
+	@Data
+	private static class HiscoreUpdate
+	{
+		private final String username;
+		private final HiscoreResult result;
+		private final Instant queued;
+	}
+
+	private final Sql2o sql2o;
+	private final HiscoreService hiscoreService;
+	private final int batchSize;
+	private final RateLimiter rateLimiter;
+	private final ExecutorService lookupExecutor;
+	// runs the batches, so the scheduler thread shared by the other jobs is never blocked on lookups
+	private final ExecutorService batchExecutor;
+	private final AtomicBoolean batchRunning = new AtomicBoolean();
+
+	private final BlockingQueue<PendingUpdate> usernameUpdateQueue = new LinkedBlockingQueue<>(QUEUE_LIMIT);
+	// results of hiscore lookups waiting to be written
+	private final BlockingQueue<HiscoreUpdate> hiscoreUpdateQueue = new LinkedBlockingQueue<>(RESULT_QUEUE_LIMIT);
+	private volatile BloomFilter<String> usernameFilter = createFilter();
+	private final Object playerLock = new Object();
+
+	private final AtomicLong updated = new AtomicLong();
+	private final AtomicLong unchanged = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private volatile Duration lastLag = Duration.ZERO;
 
 	@Autowired
-	private HiscoreService hiscoreService;
+	public XpTrackerService(
+		@Qualifier("Runelite XP Tracker SQL2O") Sql2o sql2o,
+		HiscoreService hiscoreService,
+		@Value("${runelite.xp.lookup-rate:4}") double lookupRate,
+		@Value("${runelite.xp.lookup-threads:4}") int lookupThreads,
+		@Value("${runelite.xp.batch-size:64}") int batchSize
+	)
+	{
+		this.sql2o = sql2o;
+		this.hiscoreService = hiscoreService;
+		this.batchSize = batchSize;
+		this.rateLimiter = RateLimiter.create(lookupRate);
+		this.lookupExecutor = Executors.newFixedThreadPool(lookupThreads, new ThreadFactoryBuilder()
+			.setNameFormat("xp-tracker-lookup-%d")
+			.setDaemon(true)
+			.build());
+		this.batchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+			.setNameFormat("xp-tracker-batch")
+			.setDaemon(true)
+			.build());
+	}
 
-	private final Queue<String> usernameUpdateQueue = new ArrayDeque<>();
-	private BloomFilter<String> usernameFilter = createFilter();
+	@PreDestroy
+	public void shutdown()
+	{
+		batchExecutor.shutdownNow();
+		lookupExecutor.shutdownNow();
+	}
 
 	public void update(String username) throws ExecutionException
 	{
@@ -89,132 +173,274 @@ public class XpTrackerService
 				return;
 			}
 
-			synchronized (usernameUpdateQueue)
+			if (!usernameUpdateQueue.offer(new PendingUpdate(username, now)))
 			{
-				if (usernameUpdateQueue.size() >= QUEUE_LIMIT)
-				{
-					log.warn("Username update queue is full ({})", QUEUE_LIMIT);
-					return;
-				}
-
-				usernameUpdateQueue.add(username);
+				log.warn("Username update queue is full ({})", QUEUE_LIMIT);
+				return;
 			}
 		}
 
 		usernameFilter.put(username);
 	}
 
+	/**
+	 * Queue a hiscore result to be recorded. Results are written in
+	 * batches by {@link #update()}.
+	 *
+	 * @param username
+	 * @param hiscoreResult
+	 */
 	public void update(String username, HiscoreResult hiscoreResult)
 	{
+		if (!hiscoreUpdateQueue.offer(new HiscoreUpdate(username, hiscoreResult, Instant.now())))
+		{
+			log.warn("Hiscore update queue is full ({}), dropping update for {}", RESULT_QUEUE_LIMIT, username);
+		}
+	}
+
+	private void write(List<HiscoreUpdate> hiscoreUpdates)
+	{
+		// only the newest result for each player in the batch is relevant, and names are case insensitive
+		Map<String, HiscoreUpdate> latest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (HiscoreUpdate hiscoreUpdate : hiscoreUpdates)
+		{
+			latest.put(hiscoreUpdate.getUsername(), hiscoreUpdate);
+		}
+
+		Instant now = Instant.now();
+		Map<String, PlayerEntity> players;
+		Map<Integer, XpEntity> currentXps;
 		try (Connection con = sql2o.open())
 		{
-			PlayerEntity playerEntity = findOrCreatePlayer(con, username);
+			// players are created outside of the transaction so they are visible to tryUpdate at once
+			players = findOrCreatePlayers(con, latest.keySet());
+			currentXps = findLatestXp(con, players.values(), now);
+		}
 
-			Instant now = Instant.now();
-			XpEntity currentXp = findXpAtTime(con, username, now);
-			if (currentXp != null)
+		int count = 0;
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query insertXp = con.createQuery(INSERT_XP);
+			Query updatePlayer = con.createQuery("update player set rank = :rank, last_updated = CURRENT_TIMESTAMP where id = :id");
+
+			for (HiscoreUpdate hiscoreUpdate : latest.values())
 			{
-				XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
-				XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(currentXp);
+				String username = hiscoreUpdate.getUsername();
+				HiscoreResult hiscoreResult = hiscoreUpdate.getResult();
+				PlayerEntity playerEntity = players.get(username);
 
-				if (hiscoreData.equals(existingData))
+				XpEntity currentXp = currentXps.get(playerEntity.getId());
+				if (currentXp != null)
 				{
-					log.debug("Hiscore for {} already up to date", username);
-					return;
+					XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
+					XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(currentXp);
+
+					if (hiscoreData.equals(existingData))
+					{
+						log.debug("Hiscore for {} already up to date", username);
+						unchanged.incrementAndGet();
+						continue;
+					}
 				}
+
+				addXpParameters(insertXp, playerEntity.getId(), hiscoreResult)
+					.addToBatch();
+
+				updatePlayer
+					.addParameter("id", playerEntity.getId())
+					.addParameter("rank", hiscoreResult.getOverall().getRank())
+					.addToBatch();
+
+				++count;
 			}
 
-			con.createQuery("insert into xp (player,attack_xp,defence_xp,strength_xp,hitpoints_xp,ranged_xp,prayer_xp,magic_xp,cooking_xp,woodcutting_xp,"
-				+ "fletching_xp,fishing_xp,firemaking_xp,crafting_xp,smithing_xp,mining_xp,herblore_xp,agility_xp,thieving_xp,slayer_xp,farming_xp,"
-				+ "runecraft_xp,hunter_xp,construction_xp,attack_rank,defence_rank,strength_rank,hitpoints_rank,ranged_rank,prayer_rank,magic_rank,"
-				+ "cooking_rank,woodcutting_rank,fletching_rank,fishing_rank,firemaking_rank,crafting_rank,smithing_rank,mining_rank,herblore_rank,"
-				+ "agility_rank,thieving_rank,slayer_rank,farming_rank,runecraft_rank,hunter_rank,construction_rank,overall_rank) values (:player,:attack_xp,:defence_xp,"
-				+ ":strength_xp,:hitpoints_xp,:ranged_xp,:prayer_xp,:magic_xp,:cooking_xp,:woodcutting_xp,:fletching_xp,:fishing_xp,:firemaking_xp,"
-				+ ":crafting_xp,:smithing_xp,:mining_xp,:herblore_xp,:agility_xp,:thieving_xp,:slayer_xp,:farming_xp,:runecraft_xp,:hunter_xp,"
-				+ ":construction_xp,:attack_rank,:defence_rank,:strength_rank,:hitpoints_rank,:ranged_rank,:prayer_rank,:magic_rank,:cooking_rank,"
-				+ ":woodcutting_rank,:fletching_rank,:fishing_rank,:firemaking_rank,:crafting_rank,:smithing_rank,:mining_rank,:herblore_rank,"
-				+ ":agility_rank,:thieving_rank,:slayer_rank,:farming_rank,:runecraft_rank,:hunter_rank,:construction_rank,:overall_rank)")
-				.addParameter("player", playerEntity.getId())
-				.addParameter("attack_xp", hiscoreResult.getAttack().getExperience())
-				.addParameter("defence_xp", hiscoreResult.getDefence().getExperience())
-				.addParameter("strength_xp", hiscoreResult.getStrength().getExperience())
-				.addParameter("hitpoints_xp", hiscoreResult.getHitpoints().getExperience())
-				.addParameter("ranged_xp", hiscoreResult.getRanged().getExperience())
-				.addParameter("prayer_xp", hiscoreResult.getPrayer().getExperience())
-				.addParameter("magic_xp", hiscoreResult.getMagic().getExperience())
-				.addParameter("cooking_xp", hiscoreResult.getCooking().getExperience())
-				.addParameter("woodcutting_xp", hiscoreResult.getWoodcutting().getExperience())
-				.addParameter("fletching_xp", hiscoreResult.getFletching().getExperience())
-				.addParameter("fishing_xp", hiscoreResult.getFishing().getExperience())
-				.addParameter("firemaking_xp", hiscoreResult.getFiremaking().getExperience())
-				.addParameter("crafting_xp", hiscoreResult.getCrafting().getExperience())
-				.addParameter("smithing_xp", hiscoreResult.getSmithing().getExperience())
-				.addParameter("mining_xp", hiscoreResult.getMining().getExperience())
-				.addParameter("herblore_xp", hiscoreResult.getHerblore().getExperience())
-				.addParameter("agility_xp", hiscoreResult.getAgility().getExperience())
-				.addParameter("thieving_xp", hiscoreResult.getThieving().getExperience())
-				.addParameter("slayer_xp", hiscoreResult.getSlayer().getExperience())
-				.addParameter("farming_xp", hiscoreResult.getFarming().getExperience())
-				.addParameter("runecraft_xp", hiscoreResult.getRunecraft().getExperience())
-				.addParameter("hunter_xp", hiscoreResult.getHunter().getExperience())
-				.addParameter("construction_xp", hiscoreResult.getConstruction().getExperience())
-				.addParameter("attack_rank", hiscoreResult.getAttack().getRank())
-				.addParameter("defence_rank", hiscoreResult.getDefence().getRank())
-				.addParameter("strength_rank", hiscoreResult.getStrength().getRank())
-				.addParameter("hitpoints_rank", hiscoreResult.getHitpoints().getRank())
-				.addParameter("ranged_rank", hiscoreResult.getRanged().getRank())
-				.addParameter("prayer_rank", hiscoreResult.getPrayer().getRank())
-				.addParameter("magic_rank", hiscoreResult.getMagic().getRank())
-				.addParameter("cooking_rank", hiscoreResult.getCooking().getRank())
-				.addParameter("woodcutting_rank", hiscoreResult.getWoodcutting().getRank())
-				.addParameter("fletching_rank", hiscoreResult.getFletching().getRank())
-				.addParameter("fishing_rank", hiscoreResult.getFishing().getRank())
-				.addParameter("firemaking_rank", hiscoreResult.getFiremaking().getRank())
-				.addParameter("crafting_rank", hiscoreResult.getCrafting().getRank())
-				.addParameter("smithing_rank", hiscoreResult.getSmithing().getRank())
-				.addParameter("mining_rank", hiscoreResult.getMining().getRank())
-				.addParameter("herblore_rank", hiscoreResult.getHerblore().getRank())
-				.addParameter("agility_rank", hiscoreResult.getAgility().getRank())
-				.addParameter("thieving_rank", hiscoreResult.getThieving().getRank())
-				.addParameter("slayer_rank", hiscoreResult.getSlayer().getRank())
-				.addParameter("farming_rank", hiscoreResult.getFarming().getRank())
-				.addParameter("runecraft_rank", hiscoreResult.getRunecraft().getRank())
-				.addParameter("hunter_rank", hiscoreResult.getHunter().getRank())
-				.addParameter("construction_rank", hiscoreResult.getConstruction().getRank())
-				.addParameter("overall_rank", hiscoreResult.getOverall().getRank())
-				.executeUpdate();
-
-			con.createQuery("update player set rank = :rank, last_updated = CURRENT_TIMESTAMP where id = :id")
-				.addParameter("id", playerEntity.getId())
-				.addParameter("rank", hiscoreResult.getOverall().getRank())
-				.executeUpdate();
+			if (count > 0)
+			{
+				insertXp.executeBatch();
+				updatePlayer.executeBatch();
+			}
+			con.commit();
 		}
+		updated.addAndGet(count);
 	}
 
-	private synchronized PlayerEntity findOrCreatePlayer(Connection con, String username)
+	private static Query addXpParameters(Query query, int playerId, HiscoreResult hiscoreResult)
 	{
-		PlayerEntity playerEntity = con.createQuery("select * from player where name = :name")
-			.addParameter("name", username)
-			.executeAndFetchFirst(PlayerEntity.class);
+		return query
+			.addParameter("player", playerId)
+			.addParameter("attack_xp", hiscoreResult.getAttack().getExperience())
+			.addParameter("defence_xp", hiscoreResult.getDefence().getExperience())
+			.addParameter("strength_xp", hiscoreResult.getStrength().getExperience())
+			.addParameter("hitpoints_xp", hiscoreResult.getHitpoints().getExperience())
+			.addParameter("ranged_xp", hiscoreResult.getRanged().getExperience())
+			.addParameter("prayer_xp", hiscoreResult.getPrayer().getExperience())
+			.addParameter("magic_xp", hiscoreResult.getMagic().getExperience())
+			.addParameter("cooking_xp", hiscoreResult.getCooking().getExperience())
+			.addParameter("woodcutting_xp", hiscoreResult.getWoodcutting().getExperience())
+			.addParameter("fletching_xp", hiscoreResult.getFletching().getExperience())
+			.addParameter("fishing_xp", hiscoreResult.getFishing().getExperience())
+			.addParameter("firemaking_xp", hiscoreResult.getFiremaking().getExperience())
+			.addParameter("crafting_xp", hiscoreResult.getCrafting().getExperience())
+			.addParameter("smithing_xp", hiscoreResult.getSmithing().getExperience())
+			.addParameter("mining_xp", hiscoreResult.getMining().getExperience())
+			.addParameter("herblore_xp", hiscoreResult.getHerblore().getExperience())
+			.addParameter("agility_xp", hiscoreResult.getAgility().getExperience())
+			.addParameter("thieving_xp", hiscoreResult.getThieving().getExperience())
+			.addParameter("slayer_xp", hiscoreResult.getSlayer().getExperience())
+			.addParameter("farming_xp", hiscoreResult.getFarming().getExperience())
+			.addParameter("runecraft_xp", hiscoreResult.getRunecraft().getExperience())
+			.addParameter("hunter_xp", hiscoreResult.getHunter().getExperience())
+			.addParameter("construction_xp", hiscoreResult.getConstruction().getExperience())
+			.addParameter("attack_rank", hiscoreResult.getAttack().getRank())
+			.addParameter("defence_rank", hiscoreResult.getDefence().getRank())
+			.addParameter("strength_rank", hiscoreResult.getStrength().getRank())
+			.addParameter("hitpoints_rank", hiscoreResult.getHitpoints().getRank())
+			.addParameter("ranged_rank", hiscoreResult.getRanged().getRank())
+			.addParameter("prayer_rank", hiscoreResult.getPrayer().getRank())
+			.addParameter("magic_rank", hiscoreResult.getMagic().getRank())
+			.addParameter("cooking_rank", hiscoreResult.getCooking().getRank())
+			.addParameter("woodcutting_rank", hiscoreResult.getWoodcutting().getRank())
+			.addParameter("fletching_rank", hiscoreResult.getFletching().getRank())
+			.addParameter("fishing_rank", hiscoreResult.getFishing().getRank())
+			.addParameter("firemaking_rank", hiscoreResult.getFiremaking().getRank())
+			.addParameter("crafting_rank", hiscoreResult.getCrafting().getRank())
+			.addParameter("smithing_rank", hiscoreResult.getSmithing().getRank())
+			.addParameter("mining_rank", hiscoreResult.getMining().getRank())
+			.addParameter("herblore_rank", hiscoreResult.getHerblore().getRank())
+			.addParameter("agility_rank", hiscoreResult.getAgility().getRank())
+			.addParameter("thieving_rank", hiscoreResult.getThieving().getRank())
+			.addParameter("slayer_rank", hiscoreResult.getSlayer().getRank())
+			.addParameter("farming_rank", hiscoreResult.getFarming().getRank())
+			.addParameter("runecraft_rank", hiscoreResult.getRunecraft().getRank())
+			.addParameter("hunter_rank", hiscoreResult.getHunter().getRank())
+			.addParameter("construction_rank", hiscoreResult.getConstruction().getRank())
+			.addParameter("overall_rank", hiscoreResult.getOverall().getRank());
+	}
+
+	private PlayerEntity findOrCreatePlayer(Connection con, String username)
+	{
+		PlayerEntity playerEntity = findPlayer(con, username);
 		if (playerEntity != null)
 		{
 			return playerEntity;
 		}
 
-		Instant now = Instant.now();
+		// names are unique, so creation is serialized to avoid racing another request for the same player
+		synchronized (playerLock)
+		{
+			playerEntity = findPlayer(con, username);
+			if (playerEntity != null)
+			{
+				return playerEntity;
+			}
+
+			Instant now = Instant.now();
+
+			int id = con.createQuery("insert into player (name, tracked_since) values (:name, :tracked_since)")
+				.addParameter("name", username)
+				.addParameter("tracked_since", now)
+				.executeUpdate()
+				.getKey(int.class);
+
+			playerEntity = new PlayerEntity();
+			playerEntity.setId(id);
+			playerEntity.setName(username);
+			playerEntity.setTracked_since(now);
+			playerEntity.setLast_updated(now);
+			return playerEntity;
+		}
+	}
+
+	/**
+	 * Find the players with the given names, creating any which don't exist yet
+	 *
+	 * @return players by name, case insensitive
+	 */
+	private Map<String, PlayerEntity> findOrCreatePlayers(Connection con, Collection<String> usernames)
+	{
+		Map<String, PlayerEntity> players = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		if (usernames.isEmpty())
+		{
+			return players;
+		}
+
+		Query query = con.createQuery("select * from player where name in (" + inParameters("name", usernames.size()) + ")");
+		addInParameters(query, "name", usernames);
+		for (PlayerEntity playerEntity : query.executeAndFetch(PlayerEntity.class))
+		{
+			players.put(playerEntity.getName(), playerEntity);
+		}
+
+		for (String username : usernames)
+		{
+			if (!players.containsKey(username))
+			{
+				players.put(username, findOrCreatePlayer(con, username));
+			}
+		}
+		return players;
+	}
+
+	/**
+	 * Find the most recent xp of each player at a time
+	 *
+	 * @return xp by player id
+	 */
+	private static Map<Integer, XpEntity> findLatestXp(Connection con, Collection<PlayerEntity> players, Instant time)
+	{
+		Map<Integer, XpEntity> xps = new HashMap<>();
+		if (players.isEmpty())
+		{
+			return xps;
+		}
+
+		List<Integer> ids = new ArrayList<>(players.size());
+		for (PlayerEntity playerEntity : players)
+		{
+			ids.add(playerEntity.getId());
+		}
 
-		int id = con.createQuery("insert into player (name, tracked_since) values (:name, :tracked_since)")
+		Query query = con.createQuery("select xp.* from xp join (select player, max(time) as time from xp"
+			+ " where player in (" + inParameters("player", ids.size()) + ") and time <= :time group by player) latest"
+			+ " on xp.player = latest.player and xp.time = latest.time")
+			.throwOnMappingFailure(false)
+			.addParameter("time", time);
+		addInParameters(query, "player", ids);
+		for (XpEntity xpEntity : query.executeAndFetch(XpEntity.class))
+		{
+			xps.put(xpEntity.getPlayer(), xpEntity);
+		}
+		return xps;
+	}
+
+	private static String inParameters(String name, int count)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append(':').append(name).append(i);
+		}
+		return sb.toString();
+	}
+
+	private static void addInParameters(Query query, String name, Collection<?> values)
+	{
+		int i = 0;
+		for (Object value : values)
+		{
+			query.addParameter(name + i++, value);
+		}
+	}
+
+	private PlayerEntity findPlayer(Connection con, String username)
+	{
+		return con.createQuery("select * from player where name = :name")
 			.addParameter("name", username)
-			.addParameter("tracked_since", now)
-			.executeUpdate()
-			.getKey(int.class);
-
-		playerEntity = new PlayerEntity();
-		playerEntity.setId(id);
-		playerEntity.setName(username);
-		playerEntity.setTracked_since(now);
-		playerEntity.setLast_updated(now);
-		return playerEntity;
+			.executeAndFetchFirst(PlayerEntity.class);
 	}
 
 	private XpEntity findXpAtTime(Connection con, String username, Instant time)
@@ -234,21 +460,105 @@ public class XpTrackerService
 		}
 	}
 
+	/**
+	 * Start the next batch on the batch thread, unless one is still running.
+	 */
 	@Scheduled(fixedDelay = 1000)
-	public void update() throws ExecutionException
+	public void update()
 	{
-		String next;
-		synchronized (usernameUpdateQueue)
+		if (!batchRunning.compareAndSet(false, true))
 		{
-			next = usernameUpdateQueue.poll();
+			return;
 		}
 
-		if (next == null)
+		batchExecutor.execute(() ->
+		{
+			try
+			{
+				processBatch();
+			}
+			catch (Exception ex)
+			{
+				log.warn("Unable to process xp tracker batch", ex);
+			}
+			finally
+			{
+				batchRunning.set(false);
+			}
+		});
+	}
+
+	/**
+	 * Look up the next batch of queued players, concurrently but within the
+	 * configured rate limit, and write their results along with any others
+	 * which have been queued.
+	 */
+	void processBatch()
+	{
+		List<PendingUpdate> pending = new ArrayList<>(batchSize);
+		usernameUpdateQueue.drainTo(pending, batchSize);
+
+		List<Future<HiscoreUpdate>> lookups = new ArrayList<>(pending.size());
+		for (PendingUpdate pendingUpdate : pending)
+		{
+			lookups.add(lookupExecutor.submit(() ->
+			{
+				rateLimiter.acquire();
+				HiscoreResult hiscoreResult = hiscoreService.lookupUsername(pendingUpdate.getUsername(), HiscoreEndpoint.NORMAL);
+				return new HiscoreUpdate(pendingUpdate.getUsername(), hiscoreResult, pendingUpdate.getQueued());
+			}));
+		}
+
+		List<HiscoreUpdate> hiscoreUpdates = new ArrayList<>(pending.size());
+		hiscoreUpdateQueue.drainTo(hiscoreUpdates);
+
+		for (int i = 0; i < lookups.size(); ++i)
+		{
+			try
+			{
+				hiscoreUpdates.add(lookups.get(i).get());
+			}
+			catch (ExecutionException ex)
+			{
+				log.debug("Unable to look up hiscore for {}", pending.get(i).getUsername(), ex.getCause());
+				failed.incrementAndGet();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+
+		if (hiscoreUpdates.isEmpty())
 		{
 			return;
 		}
 
-		update(next);
+		write(hiscoreUpdates);
+
+		Instant oldest = hiscoreUpdates.stream()
+			.map(HiscoreUpdate::getQueued)
+			.min(Instant::compareTo)
+			.get();
+		lastLag = Duration.between(oldest, Instant.now());
+
+		log.debug("Wrote {} hiscore results, lag {}, {} players queued", hiscoreUpdates.size(), lastLag, usernameUpdateQueue.size());
+	}
+
+	public XpTrackerStats getStats()
+	{
+		PendingUpdate next = usernameUpdateQueue.peek();
+
+		XpTrackerStats stats = new XpTrackerStats();
+		stats.setQueueSize(usernameUpdateQueue.size());
+		stats.setResultQueueSize(hiscoreUpdateQueue.size());
+		stats.setQueueLag(next == null ? 0L : Duration.between(next.getQueued(), Instant.now()).toMillis());
+		stats.setWriteLag(lastLag.toMillis());
+		stats.setUpdated(updated.get());
+		stats.setUnchanged(unchanged.get());
+		stats.setFailed(failed.get());
+		return stats;
 	}
 
 	@Scheduled(fixedDelay = 6 * 60 * 60 * 1000) // 6 hours
@@ -264,12 +574,9 @@ public class XpTrackerService
 			BLOOMFILTER_EXPECTED_INSERTIONS
 		);
 
-		synchronized (usernameUpdateQueue)
+		for (PendingUpdate toUpdate : usernameUpdateQueue)
 		{
-			for (String toUpdate : usernameUpdateQueue)
-			{
-				filter.put(toUpdate);
-			}
+			filter.put(toUpdate.getUsername());
 		}
 
 		return filter;
@@ -24,10 +24,23 @@
  */
 package net.runelite.http.service.xtea;
 
+import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.util.Djb2;
@@ -39,6 +52,7 @@ import net.runelite.http.service.cache.beans.CacheEntry;
 import net.runelite.http.service.util.exception.InternalServerErrorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
 import org.sql2o.Query;
@@ -62,6 +76,7 @@ public class XteaService
 
 	private final Sql2o sql2o;
 	private final CacheService cacheService;
+	private final ExecutorService checkExecutor;
 
 	private final Cache<Integer, XteaCache> keyCache = CacheBuilder.newBuilder()
 		.maximumSize(1024)
@@ -70,11 +85,16 @@ public class XteaService
 	@Autowired
 	public XteaService(
 		@Qualifier("Runelite SQL2O") Sql2o sql2o,
-		CacheService cacheService
+		CacheService cacheService,
+		@Value("${runelite.xtea.check-threads:4}") int checkThreads
 	)
 	{
 		this.sql2o = sql2o;
 		this.cacheService = cacheService;
+		this.checkExecutor = Executors.newFixedThreadPool(checkThreads, new ThreadFactoryBuilder()
+			.setNameFormat("xtea-check-%d")
+			.setDaemon(true)
+			.build());
 
 		try (Connection con = sql2o.beginTransaction())
 		{
@@ -83,24 +103,51 @@ public class XteaService
 		}
 	}
 
-	private XteaEntry findLatestXtea(Connection con, int region)
+	@PreDestroy
+	public void shutdown()
 	{
-		return con.createQuery("select region, time, key1, key2, key3, key4 from xtea "
-			+ "where region = :region "
-			+ "order by time desc "
-			+ "limit 1")
-			.addParameter("region", region)
-			.executeAndFetchFirst(XteaEntry.class);
+		checkExecutor.shutdownNow();
+	}
+
+	/**
+	 * Look up the latest keys of each of the given regions in a single query.
+	 * Regions without keys are omitted from the result.
+	 */
+	private Map<Integer, XteaEntry> findLatestXteas(Connection con, Collection<Integer> regions)
+	{
+		// sql2o can't bind lists, but the regions are integers so can be inlined
+		String regionList = regions.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(","));
+
+		List<XteaEntry> entries = con.createQuery(
+			"select t2.region, t2.time, t2.rev, t2.key1, t2.key2, t2.key3, t2.key4 from " +
+				"(select region,max(id) as id from xtea where region in (" + regionList + ") group by region) t1 " +
+				"join xtea t2 on t1.id = t2.id")
+			.executeAndFetch(XteaEntry.class);
+
+		Map<Integer, XteaEntry> latest = new HashMap<>(entries.size());
+		for (XteaEntry entry : entries)
+		{
+			latest.put(entry.getRegion(), entry);
+		}
+		return latest;
 	}
 
 	public void submit(XteaRequest xteaRequest)
 	{
-		boolean cached = true;
+		// keys which differ from the ones last submitted for their region
+		Map<Integer, int[]> submitted = new LinkedHashMap<>();
 		for (XteaKey key : xteaRequest.getKeys())
 		{
 			int region = key.getRegion();
 			int[] keys = key.getKeys();
 
+			if (keys.length != 4)
+			{
+				throw new IllegalArgumentException("Key length must be 4");
+			}
+
 			XteaCache xteaCache = keyCache.getIfPresent(region);
 			if (xteaCache == null
 				|| xteaCache.getKey1() != keys[0]
@@ -108,59 +155,84 @@ public class XteaService
 				|| xteaCache.getKey3() != keys[2]
 				|| xteaCache.getKey4() != keys[3])
 			{
-				cached = false;
 				keyCache.put(region, new XteaCache(region, keys[0], keys[1], keys[2], keys[3]));
+				submitted.put(region, keys);
 			}
 		}
 
-		if (cached)
+		if (submitted.isEmpty())
 		{
 			return;
 		}
 
-		try (Connection con = sql2o.beginTransaction())
+		CacheEntry cache = cacheService.findMostRecent();
+
+		if (cache == null)
+		{
+			throw new InternalServerErrorException("No most recent cache");
+		}
+
+		Map<Integer, XteaEntry> latest;
+		try (Connection con = sql2o.open())
+		{
+			latest = findLatestXteas(con, submitted.keySet());
+		}
+
+		// check the keys of all regions at once, each fetching its own archive
+		Map<Integer, CompletableFuture<Boolean>> checks = new LinkedHashMap<>();
+		for (Map.Entry<Integer, int[]> entry : submitted.entrySet())
+		{
+			int region = entry.getKey();
+			int[] keys = entry.getValue();
+
+			XteaEntry xteaEntry = latest.get(region);
+
+			// already have these?
+			if (xteaEntry != null
+				&& xteaEntry.getKey1() == keys[0]
+				&& xteaEntry.getKey2() == keys[1]
+				&& xteaEntry.getKey3() == keys[2]
+				&& xteaEntry.getKey4() == keys[3])
+			{
+				continue;
+			}
+
+			checks.put(region, CompletableFuture.supplyAsync(() -> checkKeys(cache, region, keys), checkExecutor));
+		}
+
+		List<Integer> valid = new ArrayList<>(checks.size());
+		for (Map.Entry<Integer, CompletableFuture<Boolean>> entry : checks.entrySet())
 		{
-			CacheEntry cache = cacheService.findMostRecent();
+			boolean ok;
+			try
+			{
+				ok = entry.getValue().join();
+			}
+			catch (CompletionException ex)
+			{
+				Throwables.throwIfUnchecked(ex.getCause());
+				throw ex;
+			}
 
-			if (cache == null)
+			if (ok)
 			{
-				throw new InternalServerErrorException("No most recent cache");
+				valid.add(entry.getKey());
 			}
+		}
+
+		if (valid.isEmpty())
+		{
+			return;
+		}
 
-			Query query = null;
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query query = con.createQuery("insert into xtea (region, rev, key1, key2, key3, key4) "
+				+ "values (:region, :rev, :key1, :key2, :key3, :key4)");
 
-			for (XteaKey key : xteaRequest.getKeys())
+			for (int region : valid)
 			{
-				int region = key.getRegion();
-				int[] keys = key.getKeys();
-
-				XteaEntry xteaEntry = findLatestXtea(con, region);
-
-				if (keys.length != 4)
-				{
-					throw new IllegalArgumentException("Key length must be 4");
-				}
-
-				// already have these?
-				if (xteaEntry != null
-					&& xteaEntry.getKey1() == keys[0]
-					&& xteaEntry.getKey2() == keys[1]
-					&& xteaEntry.getKey3() == keys[2]
-					&& xteaEntry.getKey4() == keys[3])
-				{
-					continue;
-				}
-
-				if (!checkKeys(cache, region, keys))
-				{
-					continue;
-				}
-
-				if (query == null)
-				{
-					query = con.createQuery("insert into xtea (region, rev, key1, key2, key3, key4) "
-						+ "values (:region, :rev, :key1, :key2, :key3, :key4)");
-				}
+				int[] keys = submitted.get(region);
 
 				query.addParameter("region", region)
 					.addParameter("rev", xteaRequest.getRevision())
@@ -171,11 +243,8 @@ public class XteaService
 					.addToBatch();
 			}
 
-			if (query != null)
-			{
-				query.executeBatch();
-				con.commit(false);
-			}
+			query.executeBatch();
+			con.commit(false);
 		}
 	}
 
@@ -227,6 +296,12 @@ public class XteaService
 			throw new InternalServerErrorException("Unable to get archive data");
 		}
 
+		// most wrong keys are rejected by decrypting a single block
+		if (!Container.checkKeys(data, keys))
+		{
+			return false;
+		}
+
 		try
 		{
 			Container.decompress(data, keys);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.IndexType;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+import net.runelite.http.service.util.InstantConverter;
+import org.h2.jdbcx.JdbcDataSource;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class CacheMetadataTest
+{
+	private Sql2o sql2o;
+
+	@Before
+	public void before()
+	{
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:cachemetadatatest;MODE=MySQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1");
+
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		sql2o = new Sql2o(dataSource, new NoQuirks(converters));
+
+		try (Connection con = sql2o.open())
+		{
+			con.createQuery("drop all objects").executeUpdate();
+			con.createQuery("create table cache (id int primary key, revision int not null, date timestamp not null)")
+				.executeUpdate();
+			con.createQuery("create table `index` (id int primary key, cache int not null, indexId int not null,"
+				+ " crc int not null, revision int not null)")
+				.executeUpdate();
+			con.createQuery("create table archive (id int primary key, archiveId int not null, nameHash int not null,"
+				+ " crc int not null, revision int not null, hash binary(32) not null)")
+				.executeUpdate();
+			con.createQuery("create table index_archive (`index` int not null, archive int not null)")
+				.executeUpdate();
+
+			con.createQuery("insert into cache values (1, 180, :date)")
+				.addParameter("date", Instant.ofEpochSecond(1_500_000_000L))
+				.executeUpdate();
+			con.createQuery("insert into `index` values (1, 1, 5, 11, 2), (2, 1, 7, 12, 3)")
+				.executeUpdate();
+			con.createQuery("insert into archive values (:id, :archiveId, :nameHash, 0, 1, :hash)")
+				.addParameter("id", 1).addParameter("archiveId", 0).addParameter("nameHash", 100).addParameter("hash", hash(1)).addToBatch()
+				.addParameter("id", 2).addParameter("archiveId", 1).addParameter("nameHash", 200).addParameter("hash", hash(2)).addToBatch()
+				.addParameter("id", 3).addParameter("archiveId", 0).addParameter("nameHash", 0).addParameter("hash", hash(3)).addToBatch()
+				.executeBatch();
+			con.createQuery("insert into index_archive values (1, 1), (1, 2), (2, 3)")
+				.executeUpdate();
+		}
+	}
+
+	private static byte[] hash(int b)
+	{
+		byte[] hash = new byte[32];
+		hash[0] = (byte) b;
+		return hash;
+	}
+
+	@Test
+	public void testLoad()
+	{
+		try (Connection con = sql2o.open())
+		{
+			CacheDAO cacheDao = new CacheDAO();
+			CacheEntry cache = cacheDao.findMostRecent(con);
+			CacheMetadata metadata = CacheMetadata.load(con, cache);
+
+			assertTrue(metadata.isFor(cacheDao.findCache(con, 1)));
+			assertEquals(cacheDao.findIndexesForCache(con, cache), metadata.getIndexes());
+			assertEquals(3, metadata.getArchiveCount());
+
+			IndexEntry maps = metadata.findIndex(IndexType.MAPS.getNumber());
+			assertEquals(cacheDao.findIndexForCache(con, cache, IndexType.MAPS.getNumber()), maps);
+			assertNull(metadata.findIndex(IndexType.CONFIGS.getNumber()));
+			assertTrue(metadata.contains(maps));
+
+			IndexEntry other = new IndexEntry();
+			other.setId(3);
+			assertFalse(metadata.contains(other));
+
+			assertEquals(2, metadata.getArchives(maps).size());
+			assertEquals(cacheDao.findArchiveForIndex(con, maps, 1), metadata.findArchive(maps, 1));
+			assertArrayEquals(hash(2), metadata.findArchive(maps, 1).getHash());
+			assertNull(metadata.findArchive(maps, 2));
+
+			assertEquals(0, metadata.findArchiveByName(IndexType.MAPS.getNumber(), 100).getArchiveId());
+			assertNull(metadata.findArchiveByName(IndexType.MAPS.getNumber(), 300));
+			assertNull(metadata.findArchiveByName(IndexType.CONFIGS.getNumber(), 100));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.chat;
+
+import static org.mockito.Matchers.aryEq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(ChatController.class)
+@ActiveProfiles("test")
+public class ChatControllerTest
+{
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private ChatService chatService;
+
+	@Test
+	public void testGetKcs() throws Exception
+	{
+		// submitted kill counts are served from the cache
+		mockMvc.perform(post("/chat/kc").param("name", "Adam").param("boss", "Zulrah").param("kc", "42"))
+			.andExpect(status().isOk());
+
+		when(chatService.getKcs(aryEq(new String[]{"Zezima", "Woox"}), aryEq(new String[]{"Vorkath", "Zulrah"})))
+			.thenReturn(new Integer[]{7, null});
+
+		mockMvc.perform(get("/chat/kcs")
+			.param("name", "Zezima", "Adam", "Woox")
+			.param("boss", "Vorkath", "Zulrah", "Zulrah"))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[7,42,null]"));
+
+		verify(chatService).getKcs(aryEq(new String[]{"Zezima", "Woox"}), aryEq(new String[]{"Vorkath", "Zulrah"}));
+	}
+
+	@Test
+	public void testGetKcsMismatched() throws Exception
+	{
+		mockMvc.perform(get("/chat/kcs")
+			.param("name", "Zezima", "Woox")
+			.param("boss", "Vorkath"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void testGetKcsTooMany() throws Exception
+	{
+		String[] names = new String[129];
+		String[] bosses = new String[names.length];
+		for (int i = 0; i < names.length; ++i)
+		{
+			names[i] = "Player " + i;
+			bosses[i] = "Zulrah";
+		}
+
+		mockMvc.perform(get("/chat/kcs")
+			.param("name", names)
+			.param("boss", bosses))
+			.andExpect(status().isBadRequest());
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.http.service.config;
 
 import java.io.IOException;
+import java.util.Collections;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import net.runelite.http.service.account.AuthFilter;
@@ -34,6 +35,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -46,7 +48,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(SpringRunner.class)
@@ -70,6 +74,7 @@ public class ConfigControllerTest
 			.thenReturn(mock(SessionEntry.class));
 
 		when(configService.setKey(anyInt(), anyString(), anyString())).thenReturn(true);
+		when(configService.patch(anyInt(), anyList())).thenReturn(Collections.singletonList("bad"));
 	}
 
 	@Test
@@ -82,4 +87,16 @@ public class ConfigControllerTest
 
 		verify(configService).setKey(anyInt(), eq("key"), eq("value"));
 	}
+
+	@Test
+	public void testPatch() throws Exception
+	{
+		mockMvc.perform(patch("/config")
+			.content("{\"config\":[{\"key\":\"group.key\",\"value\":\"value\"},{\"key\":\"group.other\"},{\"key\":\"bad\",\"value\":\"1\"}]}")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[\"bad\"]"));
+
+		verify(configService).patch(anyInt(), anyList());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(ItemController.class)
+@ActiveProfiles("test")
+public class ItemControllerTest
+{
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private ItemService itemService;
+
+	private PriceSnapshot snapshot;
+
+	@Before
+	public void before()
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(4151);
+		itemPrice.setName("Abyssal whip");
+		itemPrice.setPrice(1_500_000);
+		itemPrice.setTime(Instant.ofEpochSecond(1_500_000_000L));
+
+		snapshot = new PriceSnapshot(new ItemPrice[]{itemPrice});
+		when(itemService.getPriceSnapshot()).thenReturn(snapshot);
+	}
+
+	@Test
+	public void testPrices() throws Exception
+	{
+		mockMvc.perform(get("/item/prices"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + snapshot.hash + "\""))
+			.andExpect(content().bytes(snapshot.json));
+	}
+
+	@Test
+	public void testPricesGzip() throws Exception
+	{
+		byte[] body = mockMvc.perform(get("/item/prices").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body)))
+		{
+			assertArrayEquals(snapshot.json, ByteStreams.toByteArray(in));
+		}
+	}
+
+	@Test
+	public void testPricesNotModified() throws Exception
+	{
+		mockMvc.perform(get("/item/prices").header(HttpHeaders.IF_NONE_MATCH, "\"" + snapshot.hash + "\""))
+			.andExpect(status().isNotModified());
+	}
+}
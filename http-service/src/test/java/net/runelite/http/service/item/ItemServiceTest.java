@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import net.runelite.http.service.cache.CacheService;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+
+public class ItemServiceTest
+{
+	private static final Pattern IN_LIST = Pattern.compile("in \\(([0-9,]+)\\)");
+
+	private final List<List<Integer>> lookups = new ArrayList<>();
+	private ItemService itemService;
+
+	@Before
+	public void before()
+	{
+		Connection con = mock(Connection.class);
+		when(con.createQuery(anyString())).thenAnswer(invocation ->
+		{
+			String sql = invocation.getArgument(0);
+			Query query = mock(Query.class);
+
+			Matcher matcher = IN_LIST.matcher(sql);
+			if (matcher.find())
+			{
+				List<Integer> ids = new ArrayList<>();
+				List<PriceEntry> prices = new ArrayList<>();
+				for (String id : matcher.group(1).split(","))
+				{
+					int itemId = Integer.parseInt(id);
+					ids.add(itemId);
+					if (hasPrice(itemId))
+					{
+						prices.add(priceEntry(itemId));
+					}
+				}
+				lookups.add(ids);
+				when(query.executeAndFetch(PriceEntry.class)).thenReturn(prices);
+			}
+			return query;
+		});
+
+		Sql2o sql2o = mock(Sql2o.class);
+		when(sql2o.open()).thenReturn(con);
+
+		itemService = new ItemService(sql2o, mock(CacheService.class));
+	}
+
+	@Test
+	public void testGetPrices()
+	{
+		// more than one chunk, in no particular order, with a duplicate
+		int[] itemIds = new int[600];
+		for (int i = 0; i < itemIds.length; ++i)
+		{
+			itemIds[i] = (i * 7919) % 1000;
+		}
+		itemIds[599] = itemIds[0];
+
+		List<PriceEntry> prices = itemService.getPrices(itemIds);
+
+		assertEquals(3, lookups.size());
+		assertEquals(expected(itemIds), ids(prices));
+	}
+
+	@Test
+	public void testGetPricesCached()
+	{
+		itemService.getPrices(4, 1, 2, 3);
+		assertEquals(1, lookups.size());
+
+		// cached prices keep the requested order among newly looked up ones,
+		// and the items without a price are not looked up again
+		List<PriceEntry> prices = itemService.getPrices(6, 1, 4, 5, 3, 2, 8);
+
+		assertEquals(2, lookups.size());
+		assertEquals(Arrays.asList(6, 5, 8), lookups.get(1));
+		assertEquals(Arrays.asList(6, 4, 2, 8), ids(prices));
+
+		itemService.getPrices(1, 3, 5);
+		assertEquals(2, lookups.size());
+	}
+
+	private static boolean hasPrice(int itemId)
+	{
+		return itemId % 2 == 0;
+	}
+
+	private static PriceEntry priceEntry(int itemId)
+	{
+		PriceEntry priceEntry = new PriceEntry();
+		priceEntry.setItem(itemId);
+		priceEntry.setPrice(itemId * 10);
+		priceEntry.setTime(Instant.ofEpochSecond(1_500_000_000L));
+		return priceEntry;
+	}
+
+	private static List<Integer> expected(int[] itemIds)
+	{
+		return Arrays.stream(itemIds)
+			.distinct()
+			.filter(ItemServiceTest::hasPrice)
+			.boxed()
+			.collect(Collectors.toList());
+	}
+
+	private static List<Integer> ids(List<PriceEntry> prices)
+	{
+		return prices.stream()
+			.map(PriceEntry::getItem)
+			.collect(Collectors.toList());
+	}
+}
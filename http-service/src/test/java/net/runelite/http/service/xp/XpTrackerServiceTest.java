@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.xp;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import net.runelite.http.api.hiscore.HiscoreClient;
+import net.runelite.http.api.hiscore.HiscoreEndpoint;
+import net.runelite.http.api.hiscore.HiscoreResult;
+import net.runelite.http.api.hiscore.HiscoreSkill;
+import net.runelite.http.api.hiscore.HiscoreSkillType;
+import net.runelite.http.service.hiscore.HiscoreService;
+import net.runelite.http.service.util.InstantConverter;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class XpTrackerServiceTest
+{
+	private static final String[] PLAYERS = {"Zezima", "Lynx Titan", "Woox"};
+
+	private final MockWebServer server = new MockWebServer();
+	private Sql2o sql2o;
+	private XpTrackerService xpTrackerService;
+
+	@Before
+	public void before() throws IOException
+	{
+		String response = hiscoreResponse();
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				return new MockResponse().setBody(response);
+			}
+		});
+		server.start();
+
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:xptrackertest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		sql2o = new Sql2o(dataSource, new NoQuirks(converters));
+
+		try (Connection con = sql2o.open())
+		{
+			con.createQuery("create table player (id int auto_increment primary key, name varchar(32) not null unique,"
+				+ " tracked_since timestamp not null default current_timestamp,"
+				+ " last_updated timestamp not null default current_timestamp, rank int)")
+				.executeUpdate();
+
+			StringBuilder xp = new StringBuilder("create table xp (id int auto_increment primary key,"
+				+ " time timestamp not null default current_timestamp, player int not null, overall_rank int not null");
+			for (HiscoreSkill skill : HiscoreSkill.values())
+			{
+				if (skill.getType() == HiscoreSkillType.SKILL)
+				{
+					String name = skill.name().toLowerCase();
+					xp.append(", ").append(name).append("_xp int not null, ").append(name).append("_rank int not null");
+				}
+			}
+			con.createQuery(xp.append(')').toString())
+				.executeUpdate();
+
+			// not updated recently, so eligible to be queued
+			for (String player : PLAYERS)
+			{
+				con.createQuery("insert into player (name, tracked_since, last_updated) values (:name, :time, :time)")
+					.addParameter("name", player)
+					.addParameter("time", Instant.ofEpochSecond(1_000_000_000L))
+					.executeUpdate();
+			}
+		}
+
+		HiscoreClient hiscoreClient = new HiscoreClient();
+		HiscoreService hiscoreService = new HiscoreService()
+		{
+			@Override
+			public HiscoreResult lookupUsername(String username, HiscoreEndpoint endpoint) throws ExecutionException
+			{
+				try
+				{
+					return hiscoreClient.lookup(username, server.url("/"));
+				}
+				catch (IOException ex)
+				{
+					throw new ExecutionException(ex);
+				}
+			}
+		};
+
+		xpTrackerService = new XpTrackerService(sql2o, hiscoreService, 100, 2, 64);
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		xpTrackerService.shutdown();
+		server.shutdown();
+
+		try (Connection con = sql2o.open())
+		{
+			con.createQuery("drop table player").executeUpdate();
+			con.createQuery("drop table xp").executeUpdate();
+		}
+	}
+
+	@Test
+	public void testUpdate()
+	{
+		for (String player : PLAYERS)
+		{
+			xpTrackerService.tryUpdate(player);
+		}
+		// filtered until the filter is cleared
+		xpTrackerService.tryUpdate(PLAYERS[0]);
+
+		assertEquals(PLAYERS.length, xpTrackerService.getStats().getQueueSize());
+
+		xpTrackerService.processBatch();
+
+		assertEquals(PLAYERS.length, server.getRequestCount());
+		assertEquals(PLAYERS.length, countXp());
+
+		XpTrackerStats stats = xpTrackerService.getStats();
+		assertEquals(0, stats.getQueueSize());
+		assertEquals(PLAYERS.length, stats.getUpdated());
+		assertEquals(0, stats.getFailed());
+
+		for (String player : PLAYERS)
+		{
+			assertEquals(1, xpTrackerService.findXpAtTime(player, Instant.now()).getAttack_rank());
+		}
+	}
+
+	@Test
+	public void testUpdateUnchanged() throws IOException
+	{
+		xpTrackerService.update(PLAYERS[0], new HiscoreClient().lookup(PLAYERS[0], server.url("/")));
+		xpTrackerService.processBatch();
+		assertEquals(1, countXp());
+
+		// identical results are not written again, even within one batch
+		HiscoreResult hiscoreResult = new HiscoreClient().lookup(PLAYERS[0], server.url("/"));
+		xpTrackerService.update(PLAYERS[0], hiscoreResult);
+		xpTrackerService.update(PLAYERS[0], hiscoreResult);
+		xpTrackerService.processBatch();
+
+		assertEquals(1, countXp());
+		assertEquals(1, xpTrackerService.getStats().getUpdated());
+		assertEquals(1, xpTrackerService.getStats().getUnchanged());
+	}
+
+	private int countXp()
+	{
+		try (Connection con = sql2o.open())
+		{
+			return con.createQuery("select count(*) from xp")
+				.executeScalar(Integer.class);
+		}
+	}
+
+	private static String hiscoreResponse()
+	{
+		StringBuilder sb = new StringBuilder();
+		for (HiscoreSkill skill : HiscoreSkill.values())
+		{
+			switch (skill.getType())
+			{
+				case OVERALL:
+					sb.append("1,2277,4600000000\n");
+					break;
+				case SKILL:
+					sb.append("1,99,200000000\n");
+					break;
+				default:
+					sb.append("-1,-1\n");
+					break;
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -353,7 +353,7 @@ public class RuneLite
 
 	public void shutdown()
 	{
-		configManager.sendConfig();
+		configManager.flush();
 		clientSessionManager.shutdown();
 		discordService.close();
 	}
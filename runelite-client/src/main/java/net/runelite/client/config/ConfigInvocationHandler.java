@@ -24,47 +24,117 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
+/**
+ * Invocation handler of the proxy for one configuration interface. Each
+ * {@link ConfigItem} getter is bound once to a slot holding its converted
+ * value, so a read after the first is a map lookup and an array read.
+ * {@link ConfigManager} invalidates the slots of a key when it changes.
+ */
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
-	// Special object to represent null values in the cache
+	// Special object to represent null values in the slots
 	private static final Object NULL = new Object();
 
+	/**
+	 * Marks a slot which must be loaded from the manager. Each invalidation stores
+	 * a new instance, so a load racing with a change can not store a stale value.
+	 */
+	private static final class Unset
+	{
+	}
+
+	private static final class ItemBinding
+	{
+		private final Method method;
+		private final String keyName;
+		private final Class<?> type;
+		// slot of the value for getters, or -1 for setters
+		private final int slot;
+
+		private ItemBinding(Method method, ConfigItem item, int slot)
+		{
+			this.method = method;
+			this.keyName = item.keyName();
+			this.type = method.getParameterCount() == 0 ? method.getReturnType() : method.getParameterTypes()[0];
+			this.slot = slot;
+		}
+	}
+
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(128)
-		.build();
+	private final Class<?> iface;
+	private final String group;
+	private final Map<Method, ItemBinding> bindings;
+	// slots of the getters of each key
+	private final Map<String, int[]> slotsByKey;
+	private final AtomicReferenceArray<Object> values;
 
-	ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface)
 	{
 		this.manager = manager;
+		this.iface = iface;
+
+		ConfigGroup configGroup = iface.getAnnotation(ConfigGroup.class);
+		this.group = configGroup == null ? null : configGroup.value();
+
+		final ImmutableMap.Builder<Method, ItemBinding> bindings = ImmutableMap.builder();
+		final Map<String, int[]> slotsByKey = new HashMap<>();
+		int slots = 0;
+		for (Method method : iface.getMethods())
+		{
+			ConfigItem item = method.getAnnotation(ConfigItem.class);
+			if (item == null)
+			{
+				continue;
+			}
+
+			int slot = -1;
+			if (method.getParameterCount() == 0)
+			{
+				slot = slots++;
+				int[] keySlots = slotsByKey.getOrDefault(item.keyName(), new int[0]);
+				keySlots = Arrays.copyOf(keySlots, keySlots.length + 1);
+				keySlots[keySlots.length - 1] = slot;
+				slotsByKey.put(item.keyName(), keySlots);
+			}
+			bindings.put(method, new ItemBinding(method, item, slot));
+		}
+
+		this.bindings = bindings.build();
+		this.slotsByKey = ImmutableMap.copyOf(slotsByKey);
+		this.values = new AtomicReferenceArray<>(slots);
+		invalidate();
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		// Use cached configuration value if available
-		if (args == null)
+		final ItemBinding binding = bindings.get(method);
+
+		if (binding != null && binding.slot != -1 && args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			// Use the bound value if it is loaded
+			final Object value = values.get(binding.slot);
+			if (!(value instanceof Unset))
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				return value == NULL ? null : value;
 			}
-		}
-
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
-		ConfigItem item = method.getAnnotation(ConfigItem.class);
+			final Object loaded = load(proxy, binding);
+			values.compareAndSet(binding.slot, value, loaded == null ? NULL : loaded);
+			return loaded;
+		}
 
 		if (group == null)
 		{
@@ -72,91 +142,86 @@ class ConfigInvocationHandler implements InvocationHandler
 			return null;
 		}
 
-		if (item == null)
+		if (binding == null)
 		{
 			log.warn("Configuration method {} has no @ConfigItem!", method);
 			return null;
 		}
 
-		if (args == null)
+		if (args == null || args.length != 1)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			throw new RuntimeException("Invalid number of arguments to configuration method");
+		}
 
-			// Getting configuration item
-			String value = manager.getConfiguration(group.value(), item.keyName());
+		// Setting a configuration value
+		Object newValue = args[0];
 
-			if (value == null)
-			{
-				if (method.isDefault())
-				{
-					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
-					return defaultValue;
-				}
-
-				cache.put(method, NULL);
-				return null;
-			}
+		Object oldValue = manager.getConfiguration(group, binding.keyName, binding.type);
 
-			// Convert value to return type
-			Class<?> returnType = method.getReturnType();
-			
-			try
-			{
-				Object objectValue = ConfigManager.stringToObject(value, returnType);
-				cache.put(method, objectValue == null ? NULL : objectValue);
-				return objectValue;
-			}
-			catch (Exception e)
+		if (Objects.equals(oldValue, newValue))
+		{
+			// nothing to do
+			return null;
+		}
+
+		if (method.isDefault())
+		{
+			Object defaultValue = callDefaultMethod(proxy, method, args);
+
+			if (Objects.equals(newValue, defaultValue))
 			{
-				log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
-				if (method.isDefault())
-				{
-					return callDefaultMethod(proxy, method, null);
-				}
+				// Just unset if it goes back to the default
+				manager.unsetConfiguration(group, binding.keyName);
 				return null;
 			}
 		}
+
+		if (newValue == null)
+		{
+			manager.unsetConfiguration(group, binding.keyName);
+		}
 		else
 		{
-			// Setting a configuration value
+			String newValueStr = ConfigManager.objectToString(newValue);
+			manager.setConfiguration(group, binding.keyName, newValueStr);
+		}
+		return null;
+	}
 
-			if (args.length != 1)
-			{
-				throw new RuntimeException("Invalid number of arguments to configuration method");
-			}
+	private Object load(Object proxy, ItemBinding binding) throws Throwable
+	{
+		if (group == null)
+		{
+			log.warn("Configuration proxy class {} has no @ConfigGroup!", proxy.getClass());
+			return null;
+		}
 
-			Object newValue = args[0];
+		log.trace("loading configuration value (group: {}, key: {})", group, binding.keyName);
 
-			Class<?> type = method.getParameterTypes()[0];
-			Object oldValue = manager.getConfiguration(group.value(), item.keyName(), type);
+		// Getting configuration item
+		String value = manager.getConfiguration(group, binding.keyName);
 
-			if (Objects.equals(oldValue, newValue))
+		if (value == null)
+		{
+			if (binding.method.isDefault())
 			{
-				// nothing to do
-				return null;
+				return callDefaultMethod(proxy, binding.method, null);
 			}
 
-			if (method.isDefault())
-			{
-				Object defaultValue = callDefaultMethod(proxy, method, args);
-
-				if (Objects.equals(newValue, defaultValue))
-				{
-					// Just unset if it goes back to the default
-					manager.unsetConfiguration(group.value(), item.keyName());
-					return null;
-				}
-			}
+			return null;
+		}
 
-			if (newValue == null)
-			{
-				manager.unsetConfiguration(group.value(), item.keyName());
-			}
-			else
+		// Convert value to return type
+		try
+		{
+			return ConfigManager.stringToObject(value, binding.type);
+		}
+		catch (Exception e)
+		{
+			log.warn("Unable to unmarshal {}.{} ", group, binding.keyName, e);
+			if (binding.method.isDefault())
 			{
-				String newValueStr = ConfigManager.objectToString(newValue);
-				manager.setConfiguration(group.value(), item.keyName(), newValueStr);
+				return callDefaultMethod(proxy, binding.method, null);
 			}
 			return null;
 		}
@@ -171,9 +236,35 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	/**
+	 * Invalidate the values bound to a configuration key
+	 *
+	 * @param groupName
+	 * @param key
+	 */
+	void invalidate(String groupName, String key)
+	{
+		if (!groupName.equals(group))
+		{
+			return;
+		}
+
+		int[] slots = slotsByKey.get(key);
+		if (slots != null)
+		{
+			for (int slot : slots)
+			{
+				values.set(slot, new Unset());
+			}
+		}
+	}
+
 	void invalidate()
 	{
-		log.trace("cache invalidate");
-		cache.invalidateAll();
+		log.trace("invalidate all values of {}", iface);
+		for (int i = 0; i < values.length(); ++i)
+		{
+			values.set(i, new Unset());
+		}
 	}
 }
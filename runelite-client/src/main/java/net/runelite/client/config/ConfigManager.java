@@ -26,7 +26,7 @@ package net.runelite.client.config;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ComparisonChain;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Point;
@@ -50,6 +50,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -57,6 +58,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -84,13 +92,20 @@ public class ConfigManager
 	EventBus eventBus;
 
 	private final ScheduledExecutorService executor;
+	// writes the configuration file off the calling thread, one save at a time
+	private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+		.setNameFormat("config-save")
+		.setDaemon(true)
+		.build());
+	private Future<?> lastSave = CompletableFuture.completedFuture(null);
 
 	private AccountSession session;
 	private ConfigClient client;
 	private File propertiesFile;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
-	private final Properties properties = new Properties();
+	private final Map<Class<?>, Config> proxies = new ConcurrentHashMap<>();
+	private final List<ConfigInvocationHandler> handlers = new CopyOnWriteArrayList<>();
+	private final ConfigStore store = new ConfigStore();
 	private final Map<String, String> pendingChanges = new HashMap<>();
 
 	@Inject
@@ -105,7 +120,7 @@ public class ConfigManager
 	public final void switchSession(AccountSession session)
 	{
 		// Ensure existing config is saved
-		sendConfig();
+		flush();
 
 		if (session == null)
 		{
@@ -170,8 +185,8 @@ public class ConfigManager
 			return;
 		}
 
-		handler.invalidate();
-		properties.clear();
+		store.clear();
+		invalidateAll();
 
 		for (ConfigEntry entry : configuration.getConfig())
 		{
@@ -186,7 +201,8 @@ public class ConfigManager
 			final String groupName = split[0];
 			final String key = split[1];
 			final String value = entry.getValue();
-			final String oldValue = (String) properties.setProperty(entry.getKey(), value);
+			final String oldValue = store.put(groupName, key, value);
+			invalidate(groupName, key);
 
 			ConfigChanged configChanged = new ConfigChanged();
 			configChanged.setGroup(groupName);
@@ -196,16 +212,8 @@ public class ConfigManager
 			eventBus.post(configChanged);
 		}
 
-		try
-		{
-			saveToFile(propertiesFile);
-
-			log.debug("Updated configuration on disk with the latest version");
-		}
-		catch (IOException ex)
-		{
-			log.warn("Unable to update configuration on disk", ex);
-		}
+		save(propertiesFile);
+		log.debug("Updating configuration on disk with the latest version");
 	}
 
 	private synchronized void syncPropertiesFromFile(File propertiesFile)
@@ -221,19 +229,10 @@ public class ConfigManager
 			return;
 		}
 
-		final Map<String, String> copy = (Map) ImmutableMap.copyOf(this.properties);
-		copy.forEach((groupAndKey, value) ->
+		store.forEach((groupName, key, value) ->
 		{
-			if (!properties.containsKey(groupAndKey))
+			if (!properties.containsKey(groupName + "." + key))
 			{
-				final String[] split = groupAndKey.split("\\.", 2);
-				if (split.length != 2)
-				{
-					return;
-				}
-
-				final String groupName = split[0];
-				final String key = split[1];
 				unsetConfiguration(groupName, key);
 			}
 		});
@@ -266,7 +265,7 @@ public class ConfigManager
 
 		try
 		{
-			saveToFile(file);
+			saveToFile(file, store.toProperties());
 		}
 		catch (IOException e)
 		{
@@ -279,9 +278,7 @@ public class ConfigManager
 
 	private synchronized void loadFromFile()
 	{
-		handler.invalidate();
-		properties.clear();
-
+		final Properties properties = new Properties();
 		try (FileInputStream in = new FileInputStream(propertiesFile))
 		{
 			properties.load(new InputStreamReader(in, Charset.forName("UTF-8")));
@@ -295,22 +292,26 @@ public class ConfigManager
 			log.warn("Unable to load settings", ex);
 		}
 
-		try
+		store.clear();
+		properties.forEach((objGroupAndKey, objValue) ->
 		{
-			Map<String, String> copy = (Map) ImmutableMap.copyOf(properties);
-			copy.forEach((groupAndKey, value) ->
+			final String groupAndKey = String.valueOf(objGroupAndKey);
+			final String[] split = groupAndKey.split("\\.", 2);
+			if (split.length != 2)
 			{
-				final String[] split = groupAndKey.split("\\.", 2);
-				if (split.length != 2)
-				{
-					log.debug("Properties key malformed!: {}", groupAndKey);
-					properties.remove(groupAndKey);
-					return;
-				}
+				log.debug("Properties key malformed!: {}", groupAndKey);
+				return;
+			}
+
+			store.put(split[0], split[1], String.valueOf(objValue));
+		});
 
-				final String groupName = split[0];
-				final String key = split[1];
+		invalidateAll();
 
+		try
+		{
+			store.forEach((groupName, key, value) ->
+			{
 				ConfigChanged configChanged = new ConfigChanged();
 				configChanged.setGroup(groupName);
 				configChanged.setKey(key);
@@ -325,13 +326,33 @@ public class ConfigManager
 		}
 	}
 
-	private void saveToFile(final File propertiesFile) throws IOException
+	/**
+	 * Save the configuration to a file in the background. The values are copied
+	 * before returning, and saves are written in the order they are requested.
+	 */
+	private synchronized void save(final File propertiesFile)
+	{
+		final Properties properties = store.toProperties();
+		lastSave = saveExecutor.submit(() ->
+		{
+			try
+			{
+				saveToFile(propertiesFile, properties);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to save configuration file", ex);
+			}
+		});
+	}
+
+	private static void saveToFile(final File propertiesFile, final Properties properties) throws IOException
 	{
 		File parent = propertiesFile.getParentFile();
 
 		parent.mkdirs();
 
-		File tempFile = new File(parent, SETTINGS_FILE_NAME + ".tmp");
+		File tempFile = new File(parent, propertiesFile.getName() + ".tmp");
 
 		try (FileOutputStream out = new FileOutputStream(tempFile))
 		{
@@ -358,22 +379,42 @@ public class ConfigManager
 			throw new RuntimeException("Non-public configuration classes can't have default methods invoked");
 		}
 
-		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
-			{
-				clazz
-			}, handler);
+		// one proxy per interface, so each configuration item is bound only once
+		return (T) proxies.computeIfAbsent(clazz, c ->
+		{
+			final ConfigInvocationHandler handler = new ConfigInvocationHandler(this, c);
+			handlers.add(handler);
+			return (Config) Proxy.newProxyInstance(c.getClassLoader(), new Class<?>[]
+				{
+					c
+				}, handler);
+		});
+	}
+
+	private void invalidate(String groupName, String key)
+	{
+		for (ConfigInvocationHandler handler : handlers)
+		{
+			handler.invalidate(groupName, key);
+		}
+	}
 
-		return t;
+	private void invalidateAll()
+	{
+		for (ConfigInvocationHandler handler : handlers)
+		{
+			handler.invalidate();
+		}
 	}
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return properties.keySet().stream().filter(v -> ((String) v).startsWith(prefix)).map(String.class::cast).collect(Collectors.toList());
+		return store.getKeys(prefix);
 	}
 
 	public String getConfiguration(String groupName, String key)
 	{
-		return properties.getProperty(groupName + "." + key);
+		return store.get(groupName, key);
 	}
 
 	public <T> T getConfiguration(String groupName, String key, Class<T> clazz)
@@ -395,7 +436,7 @@ public class ConfigManager
 
 	public void setConfiguration(String groupName, String key, String value)
 	{
-		String oldValue = (String) properties.setProperty(groupName + "." + key, value);
+		String oldValue = store.put(groupName, key, value);
 
 		if (Objects.equals(oldValue, value))
 		{
@@ -403,7 +444,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {}.{} to {}", groupName, key, value);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
@@ -426,7 +467,7 @@ public class ConfigManager
 
 	public void unsetConfiguration(String groupName, String key)
 	{
-		String oldValue = (String) properties.remove(groupName + "." + key);
+		String oldValue = store.remove(groupName, key);
 
 		if (oldValue == null)
 		{
@@ -434,7 +475,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}.{}", groupName, key);
-		handler.invalidate();
+		invalidate(groupName, key);
 
 		synchronized (pendingChanges)
 		{
@@ -676,22 +717,21 @@ public class ConfigManager
 		boolean changed;
 		synchronized (pendingChanges)
 		{
-			if (client != null)
+			if (client != null && !pendingChanges.isEmpty())
 			{
+				List<ConfigEntry> changes = new ArrayList<>(pendingChanges.size());
 				for (Map.Entry<String, String> entry : pendingChanges.entrySet())
 				{
-					String key = entry.getKey();
 					String value = entry.getValue();
 
-					if (Strings.isNullOrEmpty(value))
-					{
-						client.unset(key);
-					}
-					else
-					{
-						client.set(key, value);
-					}
+					ConfigEntry configEntry = new ConfigEntry();
+					configEntry.setKey(entry.getKey());
+					// null and the empty string are both sent as an unset
+					configEntry.setValue(Strings.isNullOrEmpty(value) ? null : value);
+					changes.add(configEntry);
 				}
+
+				client.patch(new Configuration(changes));
 			}
 			changed = !pendingChanges.isEmpty();
 			pendingChanges.clear();
@@ -699,14 +739,30 @@ public class ConfigManager
 
 		if (changed)
 		{
-			try
-			{
-				saveToFile(propertiesFile);
-			}
-			catch (IOException ex)
-			{
-				log.warn("unable to save configuration file", ex);
-			}
+			save(propertiesFile);
+		}
+	}
+
+	/**
+	 * Send the pending changes and wait for the configuration file to be written
+	 */
+	public void flush()
+	{
+		sendConfig();
+
+		final Future<?> save;
+		synchronized (this)
+		{
+			save = lastSave;
+		}
+
+		try
+		{
+			save.get();
+		}
+		catch (InterruptedException | ExecutionException ex)
+		{
+			log.warn("unable to wait for configuration file save", ex);
 		}
 	}
 }
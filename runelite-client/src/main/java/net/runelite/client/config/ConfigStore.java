@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Configuration values by group and key. Keys of each group are sorted, so
+ * keys with a common prefix are found without scanning the whole group.
+ */
+class ConfigStore
+{
+	private final ConcurrentMap<String, ConcurrentNavigableMap<String, String>> groups = new ConcurrentHashMap<>();
+
+	String get(String group, String key)
+	{
+		final Map<String, String> values = groups.get(group);
+		return values == null ? null : values.get(key);
+	}
+
+	/**
+	 * @return the previous value, or null
+	 */
+	String put(String group, String key, String value)
+	{
+		return groups.computeIfAbsent(group, g -> new ConcurrentSkipListMap<>()).put(key, value);
+	}
+
+	/**
+	 * @return the previous value, or null
+	 */
+	String remove(String group, String key)
+	{
+		final Map<String, String> values = groups.get(group);
+		return values == null ? null : values.remove(key);
+	}
+
+	void clear()
+	{
+		groups.clear();
+	}
+
+	/**
+	 * Find the keys starting with a prefix
+	 *
+	 * @param prefix a group and key prefix separated by a '.', or a group prefix
+	 * @return the matching keys, as group.key
+	 */
+	List<String> getKeys(String prefix)
+	{
+		final List<String> keys = new ArrayList<>();
+		final int dot = prefix.indexOf('.');
+		if (dot == -1)
+		{
+			groups.forEach((group, values) ->
+			{
+				if (group.startsWith(prefix))
+				{
+					for (String key : values.keySet())
+					{
+						keys.add(group + "." + key);
+					}
+				}
+			});
+			return keys;
+		}
+
+		final String group = prefix.substring(0, dot);
+		final String keyPrefix = prefix.substring(dot + 1);
+		final ConcurrentNavigableMap<String, String> values = groups.get(group);
+		if (values == null)
+		{
+			return keys;
+		}
+
+		for (String key : values.tailMap(keyPrefix).keySet())
+		{
+			if (!key.startsWith(keyPrefix))
+			{
+				break;
+			}
+			keys.add(group + "." + key);
+		}
+		return keys;
+	}
+
+	void forEach(EntryConsumer consumer)
+	{
+		groups.forEach((group, values) -> values.forEach((key, value) -> consumer.accept(group, key, value)));
+	}
+
+	/**
+	 * Copy the values into properties keyed by group.key, for saving
+	 */
+	Properties toProperties()
+	{
+		final Properties properties = new Properties();
+		forEach((group, key, value) -> properties.setProperty(group + "." + key, value));
+		return properties;
+	}
+
+	@FunctionalInterface
+	interface EntryConsumer
+	{
+		void accept(String group, String key, String value);
+	}
+}
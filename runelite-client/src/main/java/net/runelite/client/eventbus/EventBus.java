@@ -26,9 +26,7 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableMap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -36,12 +34,22 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -65,6 +73,9 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final SubscriberMethod lamda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final InvocationTimer timer = new InvocationTimer();
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -79,8 +90,23 @@ public class EventBus
 		}
 	}
 
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparing(Subscriber::getPriority)
+		.thenComparing(s -> s.object.getClass().getName());
+
 	private final Consumer<Throwable> exceptionHandler;
-	private ImmutableMultimap<Class, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event class, in the order they are invoked. The map and
+	 * arrays are never modified once published; register and unregister replace
+	 * the arrays of the event classes they change.
+	 */
+	private volatile ImmutableMap<Class<?>, Subscriber[]> subscribers = ImmutableMap.of();
+
+	/**
+	 * Whether subscriber and event times are being recorded
+	 */
+	@Getter
+	private volatile boolean profiling;
+	private final Map<Class<?>, InvocationTimer> eventTimers = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -99,15 +125,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class, Subscriber> builder = ImmutableMultimap.builder();
-
-		if (subscribers != null)
-		{
-			builder.putAll(subscribers);
-		}
-
-		builder.orderValuesBy(Comparator.comparing(Subscriber::getPriority)
-			.thenComparing(s -> s.object.getClass().getName()));
+		final Map<Class<?>, Subscriber[]> added = new HashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -165,12 +183,25 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.merge(parameterClazz, new Subscriber[]{subscriber}, EventBus::concat);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		if (added.isEmpty())
+		{
+			return;
+		}
+
+		final Map<Class<?>, Subscriber[]> map = new HashMap<>(subscribers);
+		for (Map.Entry<Class<?>, Subscriber[]> entry : added.entrySet())
+		{
+			final Subscriber[] subs = map.merge(entry.getKey(), entry.getValue(), EventBus::concat);
+			// stable, so subscribers with the same priority and class stay in registration order
+			Arrays.sort(subs, SUBSCRIBER_ORDER);
+		}
+
+		subscribers = ImmutableMap.copyOf(map);
 	}
 
 	/**
@@ -180,13 +211,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		if (subscribers == null)
-		{
-			return;
-		}
-
-		final Multimap<Class, Subscriber> map = HashMultimap.create();
-		map.putAll(subscribers);
+		final Map<Class<?>, Set<Subscriber>> removed = new HashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -200,11 +225,35 @@ public class EventBus
 				}
 
 				final Class<?> parameterClazz = method.getParameterTypes()[0];
-				map.remove(parameterClazz, new Subscriber(object, method, sub.priority(), null));
+				removed.computeIfAbsent(parameterClazz, k -> new HashSet<>())
+					.add(new Subscriber(object, method, sub.priority(), null));
 			}
 		}
 
-		subscribers = ImmutableMultimap.copyOf(map);
+		final Map<Class<?>, Subscriber[]> map = new HashMap<>(subscribers);
+		for (Map.Entry<Class<?>, Set<Subscriber>> entry : removed.entrySet())
+		{
+			final Subscriber[] subs = map.get(entry.getKey());
+			if (subs == null)
+			{
+				continue;
+			}
+
+			// filtering keeps the remaining subscribers in order
+			final Subscriber[] remaining = Arrays.stream(subs)
+				.filter(s -> !entry.getValue().contains(s))
+				.toArray(Subscriber[]::new);
+			if (remaining.length == 0)
+			{
+				map.remove(entry.getKey());
+			}
+			else
+			{
+				map.put(entry.getKey(), remaining);
+			}
+		}
+
+		subscribers = ImmutableMap.copyOf(map);
 	}
 
 	/**
@@ -215,7 +264,36 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		if (profiling)
+		{
+			postProfiled(event, subs);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
+		{
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+		}
+	}
+
+	private void postProfiled(final Object event, final Subscriber[] subs)
+	{
+		final long start = System.nanoTime();
+		long last = start;
+		for (final Subscriber subscriber : subs)
 		{
 			try
 			{
@@ -225,6 +303,78 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			final long now = System.nanoTime();
+			subscriber.getTimer().record(now - last);
+			last = now;
 		}
+
+		eventTimers.computeIfAbsent(event.getClass(), k -> new InvocationTimer()).record(last - start);
+	}
+
+	/**
+	 * Start or stop recording the time spent in each subscriber and posting each
+	 * event type. Recorded times are kept until {@link #resetProfile()}.
+	 *
+	 * @param profiling
+	 */
+	public void setProfiling(boolean profiling)
+	{
+		this.profiling = profiling;
+	}
+
+	/**
+	 * Discard the times recorded while profiling
+	 */
+	public void resetProfile()
+	{
+		for (Subscriber[] subs : subscribers.values())
+		{
+			for (Subscriber subscriber : subs)
+			{
+				subscriber.getTimer().reset();
+			}
+		}
+		eventTimers.clear();
+	}
+
+	/**
+	 * Get the times recorded while profiling for the currently registered
+	 * subscribers, and for all posted event types
+	 *
+	 * @return
+	 */
+	public EventProfile getProfile()
+	{
+		final List<EventProfile.SubscriberTiming> subscriberTimings = new ArrayList<>();
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			for (Subscriber subscriber : entry.getValue())
+			{
+				final EventProfile.Timing timing = subscriber.getTimer().snapshot();
+				if (timing.getCount() > 0)
+				{
+					final String name = subscriber.getObject().getClass().getName() + "." + subscriber.getMethod().getName();
+					subscriberTimings.add(new EventProfile.SubscriberTiming(name, entry.getKey(), timing));
+				}
+			}
+		}
+
+		final List<EventProfile.EventTiming> eventTimings = new ArrayList<>();
+		for (Map.Entry<Class<?>, InvocationTimer> entry : eventTimers.entrySet())
+		{
+			eventTimings.add(new EventProfile.EventTiming(entry.getKey(), entry.getValue().snapshot()));
+		}
+
+		subscriberTimings.sort(Comparator.comparingLong((EventProfile.SubscriberTiming t) -> t.getTiming().getTotalNanos()).reversed());
+		eventTimings.sort(Comparator.comparingLong((EventProfile.EventTiming t) -> t.getTiming().getTotalNanos()).reversed());
+		return new EventProfile(subscriberTimings, eventTimings);
+	}
+
+	private static Subscriber[] concat(final Subscriber[] a, final Subscriber[] b)
+	{
+		final Subscriber[] result = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, result, a.length, b.length);
+		return result;
 	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+
+/**
+ * A snapshot of the times spent in event subscribers while the event bus was
+ * profiling, ordered by total time spent
+ *
+ * @see EventBus#setProfiling(boolean)
+ */
+@Value
+public class EventProfile
+{
+	/**
+	 * Upper bounds of the histogram buckets of {@link Timing#getHistogram()}
+	 */
+	public static final String[] HISTOGRAM_BUCKETS = {"<1us", "<10us", "<100us", "<1ms", "<10ms", ">=10ms"};
+
+	@Value
+	public static class Timing
+	{
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long[] histogram;
+
+		public long getAverageNanos()
+		{
+			return count == 0 ? 0 : totalNanos / count;
+		}
+	}
+
+	@Value
+	public static class SubscriberTiming
+	{
+		/**
+		 * Subscriber class and method name
+		 */
+		private final String subscriber;
+		private final Class<?> event;
+		private final Timing timing;
+	}
+
+	@Value
+	public static class EventTiming
+	{
+		private final Class<?> event;
+		/**
+		 * Time spent posting the event to all of its subscribers
+		 */
+		private final Timing timing;
+	}
+
+	private final List<SubscriberTiming> subscribers;
+	private final List<EventTiming> events;
+
+	/**
+	 * Format the profile as a table for logs or bug reports
+	 *
+	 * @return
+	 */
+	public String dump()
+	{
+		final StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%10s %10s %10s %10s  %s%n", "total ms", "calls", "avg us", "max us", "subscriber"));
+		for (SubscriberTiming subscriber : subscribers)
+		{
+			format(sb, subscriber.getTiming(), subscriber.getSubscriber() + " (" + subscriber.getEvent().getSimpleName() + ")");
+			sb.append(System.lineSeparator());
+		}
+
+		sb.append(String.format("%n%10s %10s %10s %10s  %-30s", "total ms", "posts", "avg us", "max us", "event"));
+		for (String bucket : HISTOGRAM_BUCKETS)
+		{
+			sb.append(String.format(" %8s", bucket));
+		}
+		sb.append(System.lineSeparator());
+		for (EventTiming event : events)
+		{
+			format(sb, event.getTiming(), String.format("%-30s", event.getEvent().getSimpleName()));
+			for (long count : event.getTiming().getHistogram())
+			{
+				sb.append(String.format(" %8d", count));
+			}
+			sb.append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
+	private static void format(StringBuilder sb, Timing timing, String name)
+	{
+		sb.append(String.format("%10.2f %10d %10.1f %10.1f  %s",
+			timing.getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+			timing.getCount(),
+			timing.getAverageNanos() / (double) TimeUnit.MICROSECONDS.toNanos(1),
+			timing.getMaxNanos() / (double) TimeUnit.MICROSECONDS.toNanos(1),
+			name));
+	}
+}
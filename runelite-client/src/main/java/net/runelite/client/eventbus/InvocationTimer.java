@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates invocation times of a subscriber or an event type while the
+ * event bus is profiling
+ */
+class InvocationTimer
+{
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	private final AtomicLongArray histogram = new AtomicLongArray(EventProfile.HISTOGRAM_BUCKETS.length);
+
+	void record(long nanos)
+	{
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+
+		// buckets are powers of ten starting at 1us
+		int bucket = 0;
+		for (long bound = 1000; nanos >= bound && bucket < histogram.length() - 1; bound *= 10)
+		{
+			++bucket;
+		}
+		histogram.incrementAndGet(bucket);
+	}
+
+	void reset()
+	{
+		count.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+		for (int i = 0; i < histogram.length(); ++i)
+		{
+			histogram.set(i, 0);
+		}
+	}
+
+	EventProfile.Timing snapshot()
+	{
+		long[] buckets = new long[histogram.length()];
+		for (int i = 0; i < buckets.length; ++i)
+		{
+			buckets[i] = histogram.get(i);
+		}
+		return new EventProfile.Timing(count.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+	}
+}
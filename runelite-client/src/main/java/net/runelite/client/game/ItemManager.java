@@ -31,8 +31,6 @@ import com.google.common.collect.ImmutableMap;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -49,7 +47,6 @@ import net.runelite.api.Constants;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
-import net.runelite.api.ItemID;
 import static net.runelite.api.ItemID.*;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
@@ -86,8 +83,9 @@ public class ItemManager
 	private final ClientThread clientThread;
 
 	private final ItemClient itemClient;
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
-	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
+	private volatile ItemPriceTable itemPrices = ItemPriceTable.EMPTY;
+	// stats indexed by item id
+	private volatile ItemStats[] itemStats = new ItemStats[0];
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -216,10 +214,10 @@ public class ItemManager
 				{
 					map.put(price.getId(), price);
 				}
-				itemPrices = map.build();
+				itemPrices = new ItemPriceTable(map.build());
 			}
 
-			log.debug("Loaded {} prices", itemPrices.size());
+			log.debug("Loaded {} prices", itemPrices.getItemPrices().size());
 		}
 		catch (IOException e)
 		{
@@ -234,10 +232,18 @@ public class ItemManager
 			final Map<Integer, ItemStats> stats = itemClient.getStats();
 			if (stats != null)
 			{
-				itemStats = ImmutableMap.copyOf(stats);
+				int size = 0;
+				for (int itemId : stats.keySet())
+				{
+					size = Math.max(size, itemId + 1);
+				}
+
+				final ItemStats[] itemStats = new ItemStats[size];
+				stats.forEach((itemId, itemStat) -> itemStats[itemId] = itemStat);
+				this.itemStats = itemStats;
 			}
 
-			log.debug("Loaded {} stats", itemStats.size());
+			log.debug("Loaded {} stats", stats == null ? 0 : stats.size());
 		}
 		catch (IOException e)
 		{
@@ -290,35 +296,7 @@ public class ItemManager
 	 */
 	public int getItemPrice(int itemID, boolean ignoreUntradeableMap)
 	{
-		if (itemID == ItemID.COINS_995)
-		{
-			return 1;
-		}
-		if (itemID == ItemID.PLATINUM_TOKEN)
-		{
-			return 1000;
-		}
-
-		if (!ignoreUntradeableMap)
-		{
-			UntradeableItemMapping p = UntradeableItemMapping.map(ItemVariationMapping.map(itemID));
-			if (p != null)
-			{
-				return getItemPrice(p.getPriceID()) * p.getQuantity();
-			}
-		}
-
-		int price = 0;
-		for (int mappedID : ItemMapping.map(itemID))
-		{
-			ItemPrice ip = itemPrices.get(mappedID);
-			if (ip != null)
-			{
-				price += ip.getPrice();
-			}
-		}
-
-		return price;
+		return itemPrices.getPrice(itemID, ignoreUntradeableMap);
 	}
 
 	/**
@@ -336,29 +314,20 @@ public class ItemManager
 			return null;
 		}
 
-		return itemStats.get(canonicalize(itemId));
+		final ItemStats[] itemStats = this.itemStats;
+		final int canonicalId = canonicalize(itemId);
+		return canonicalId >= 0 && canonicalId < itemStats.length ? itemStats[canonicalId] : null;
 	}
 
 	/**
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return matching items, best match first
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return itemPrices.getNameIndex().search(itemName, Integer.MAX_VALUE);
 	}
 
 	/**
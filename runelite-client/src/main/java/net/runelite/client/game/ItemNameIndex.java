@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Case insensitive substring search over item names. Names are lowercased once
+ * when the index is built, and queries of three or more characters only check
+ * the items sharing the query's rarest trigram. Results are ranked exact match
+ * first, then names starting with the query, then names with a word starting
+ * with the query, each by name length.
+ *
+ * @param <T> item type
+ */
+public class ItemNameIndex<T>
+{
+	private static final int GRAM = 3;
+
+	private final List<T> items;
+	private final String[] names;
+	// indexes of the items containing each trigram, ascending
+	private final Map<String, int[]> trigrams;
+
+	public ItemNameIndex(Collection<T> items, Function<T, String> name)
+	{
+		this.items = new ArrayList<>(items);
+		this.names = new String[this.items.size()];
+
+		final Map<String, List<Integer>> postings = new HashMap<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			final String n = name.apply(this.items.get(i));
+			names[i] = n == null ? "" : n.toLowerCase();
+
+			for (int j = 0; j + GRAM <= names[i].length(); ++j)
+			{
+				final List<Integer> list = postings.computeIfAbsent(names[i].substring(j, j + GRAM), k -> new ArrayList<>());
+				// a trigram may occur more than once in a name
+				if (list.isEmpty() || list.get(list.size() - 1) != i)
+				{
+					list.add(i);
+				}
+			}
+		}
+
+		trigrams = new HashMap<>(postings.size() * 4 / 3 + 1);
+		postings.forEach((trigram, list) -> trigrams.put(trigram, list.stream().mapToInt(Integer::intValue).toArray()));
+	}
+
+	/**
+	 * Find the items with names containing a string
+	 *
+	 * @param query string to search for, in any case
+	 * @param limit maximum number of results
+	 * @return the matching items, best match first
+	 */
+	public List<T> search(String query, int limit)
+	{
+		final String search = query.toLowerCase();
+		if (search.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		int[] candidates = null;
+		if (search.length() >= GRAM)
+		{
+			for (int i = 0; i + GRAM <= search.length(); ++i)
+			{
+				final int[] postings = trigrams.get(search.substring(i, i + GRAM));
+				if (postings == null)
+				{
+					return Collections.emptyList();
+				}
+
+				if (candidates == null || postings.length < candidates.length)
+				{
+					candidates = postings;
+				}
+			}
+		}
+
+		// sort keys of the matches, as rank, name length, then index
+		long[] matches = new long[16];
+		int count = 0;
+		final int candidateCount = candidates == null ? names.length : candidates.length;
+		for (int c = 0; c < candidateCount; ++c)
+		{
+			final int i = candidates == null ? c : candidates[c];
+			final int rank = rank(names[i], search);
+			if (rank == -1)
+			{
+				continue;
+			}
+
+			if (count == matches.length)
+			{
+				matches = Arrays.copyOf(matches, count * 2);
+			}
+			matches[count++] = ((long) rank << 52) | ((long) Math.min(names[i].length(), 0xFFFFF) << 32) | i;
+		}
+
+		Arrays.sort(matches, 0, count);
+
+		final List<T> result = new ArrayList<>(Math.min(count, limit));
+		for (int m = 0; m < count && result.size() < limit; ++m)
+		{
+			result.add(items.get((int) matches[m]));
+		}
+		return result;
+	}
+
+	/**
+	 * @return how well the name matches, lower is better, or -1 if it doesn't contain the search
+	 */
+	private static int rank(String name, String search)
+	{
+		int idx = name.indexOf(search);
+		if (idx == -1)
+		{
+			return -1;
+		}
+		if (idx == 0)
+		{
+			return name.length() == search.length() ? 0 : 1;
+		}
+
+		do
+		{
+			if (name.charAt(idx - 1) == ' ')
+			{
+				return 2;
+			}
+			idx = name.indexOf(search, idx + 1);
+		}
+		while (idx != -1);
+		return 3;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Collections;
+import java.util.Map;
+import net.runelite.api.ItemID;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Item prices indexed by item id. The {@link ItemMapping}, {@link ItemVariationMapping}
+ * and {@link UntradeableItemMapping} lookups are resolved when the table is built, so a
+ * price lookup is an array read. Ids past the end of the table are resolved on each call.
+ * The names of the priced items are indexed for searching.
+ */
+class ItemPriceTable
+{
+	static final ItemPriceTable EMPTY = new ItemPriceTable(Collections.emptyMap());
+
+	private final Map<Integer, ItemPrice> itemPrices;
+	private final ItemNameIndex<ItemPrice> nameIndex;
+	// prices of the tradeable items each item maps to
+	private final int[] prices;
+	// as prices, with untradeable items priced by what they can be reclaimed for
+	private final int[] reclaimPrices;
+
+	ItemPriceTable(Map<Integer, ItemPrice> itemPrices)
+	{
+		this.itemPrices = itemPrices;
+		this.nameIndex = new ItemNameIndex<>(itemPrices.values(), ItemPrice::getName);
+
+		int size = 0;
+		for (int itemId : itemPrices.keySet())
+		{
+			size = Math.max(size, itemId + 1);
+		}
+		for (UntradeableItemMapping mapping : UntradeableItemMapping.values())
+		{
+			size = Math.max(size, mapping.getItemID() + 1);
+		}
+
+		prices = new int[size];
+		reclaimPrices = new int[size];
+		for (int itemId = 0; itemId < size; ++itemId)
+		{
+			prices[itemId] = computePrice(itemId, true);
+			reclaimPrices[itemId] = computePrice(itemId, false);
+		}
+	}
+
+	Map<Integer, ItemPrice> getItemPrices()
+	{
+		return itemPrices;
+	}
+
+	ItemNameIndex<ItemPrice> getNameIndex()
+	{
+		return nameIndex;
+	}
+
+	int getPrice(int itemId, boolean ignoreUntradeableMap)
+	{
+		final int[] table = ignoreUntradeableMap ? prices : reclaimPrices;
+		if (itemId >= 0 && itemId < table.length)
+		{
+			return table[itemId];
+		}
+		return computePrice(itemId, ignoreUntradeableMap);
+	}
+
+	private int computePrice(int itemId, boolean ignoreUntradeableMap)
+	{
+		if (itemId == ItemID.COINS_995)
+		{
+			return 1;
+		}
+		if (itemId == ItemID.PLATINUM_TOKEN)
+		{
+			return 1000;
+		}
+
+		if (!ignoreUntradeableMap)
+		{
+			UntradeableItemMapping p = UntradeableItemMapping.map(ItemVariationMapping.map(itemId));
+			if (p != null)
+			{
+				return computePrice(p.getPriceID(), false) * p.getQuantity();
+			}
+		}
+
+		int price = 0;
+		for (int mappedID : ItemMapping.map(itemId))
+		{
+			ItemPrice ip = itemPrices.get(mappedID);
+			if (ip != null)
+			{
+				price += ip.getPrice();
+			}
+		}
+
+		return price;
+	}
+}
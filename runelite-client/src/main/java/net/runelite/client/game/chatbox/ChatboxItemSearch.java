@@ -44,6 +44,7 @@ import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemNameIndex;
 
 @Singleton
 public class ChatboxItemSearch extends ChatboxTextInput
@@ -60,6 +61,8 @@ public class ChatboxItemSearch extends ChatboxTextInput
 	private final Client client;
 
 	private Map<Integer, ItemComposition> results = new LinkedHashMap<>();
+	// built on the first search after opening
+	private ItemNameIndex<ItemComposition> itemIndex;
 	private String tooltipText;
 	private int index = -1;
 
@@ -265,6 +268,7 @@ public class ChatboxItemSearch extends ChatboxTextInput
 		// Clear search string when closed
 		value("");
 		results.clear();
+		itemIndex = null;
 		index = -1;
 		super.close();
 	}
@@ -287,17 +291,31 @@ public class ChatboxItemSearch extends ChatboxTextInput
 			return;
 		}
 
-		for (int i = 0; i < client.getItemCount() && results.size() < MAX_RESULTS; i++)
+		if (itemIndex == null)
+		{
+			itemIndex = buildItemIndex();
+		}
+
+		for (ItemComposition itemComposition : itemIndex.search(search, MAX_RESULTS))
+		{
+			results.put(itemComposition.getId(), itemComposition);
+		}
+	}
+
+	private ItemNameIndex<ItemComposition> buildItemIndex()
+	{
+		final Map<Integer, ItemComposition> items = new LinkedHashMap<>();
+		for (int i = 0; i < client.getItemCount(); i++)
 		{
 			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(i));
-			String name = itemComposition.getName().toLowerCase();
 			// The client assigns "null" to item names of items it doesn't know about
-			if (!name.equals("null") && name.contains(search))
+			if (!itemComposition.getName().equalsIgnoreCase("null"))
 			{
 				// This may already be in the map due to canonicalize mapping the item to something we've already seen
-				results.putIfAbsent(itemComposition.getId(), itemComposition);
+				items.putIfAbsent(itemComposition.getId(), itemComposition);
 			}
 		}
+		return new ItemNameIndex<>(items.values(), ItemComposition::getName);
 	}
 
 	public ChatboxItemSearch onItemSelected(Consumer<Integer> onItemSelected)
@@ -44,6 +44,7 @@ class DevToolsPanel extends PluginPanel
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
+	private final EventProfiler eventProfiler;
 
 	@Inject
 	private DevToolsPanel(
@@ -52,6 +53,7 @@ class DevToolsPanel extends PluginPanel
 		WidgetInspector widgetInspector,
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
+		EventProfiler eventProfiler,
 		Notifier notifier)
 	{
 		super();
@@ -60,6 +62,7 @@ class DevToolsPanel extends PluginPanel
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
 		this.scriptInspector = scriptInspector;
+		this.eventProfiler = eventProfiler;
 		this.notifier = notifier;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -90,6 +93,7 @@ class DevToolsPanel extends PluginPanel
 		container.add(plugin.getWorldMapLocation());
 		container.add(plugin.getTileLocation());
 		container.add(plugin.getCameraPosition());
+		container.add(plugin.getOverlayTiming());
 
 		container.add(plugin.getChunkBorders());
 		container.add(plugin.getMapSquares());
@@ -154,6 +158,19 @@ class DevToolsPanel extends PluginPanel
 			}
 		});
 
+		container.add(plugin.getEventProfiler());
+		plugin.getEventProfiler().addActionListener((ev) ->
+		{
+			if (plugin.getEventProfiler().isActive())
+			{
+				eventProfiler.close();
+			}
+			else
+			{
+				eventProfiler.open();
+			}
+		});
+
 		return container;
 	}
 }
@@ -106,6 +106,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private SoundEffectOverlay soundEffectOverlay;
 
+	@Inject
+	private OverlayTimingOverlay overlayTimingOverlay;
+
 	@Inject
 	private EventBus eventBus;
 
@@ -140,6 +143,8 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
+	private DevToolsButton eventProfiler;
+	private DevToolsButton overlayTiming;
 	private NavigationButton navButton;
 
 	@Provides
@@ -182,6 +187,8 @@ public class DevToolsPlugin extends Plugin
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
+		eventProfiler = new DevToolsButton("Event Profiler");
+		overlayTiming = new DevToolsButton("Overlay Timing");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -190,6 +197,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
+		overlayManager.add(overlayTimingOverlay);
 
 		final DevToolsPanel panel = injector.getInstance(DevToolsPanel.class);
 
@@ -205,12 +213,15 @@ public class DevToolsPlugin extends Plugin
 		clientToolbar.addNavigation(navButton);
 
 		eventBus.register(soundEffectOverlay);
+		eventBus.register(overlayTimingOverlay);
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
+		eventBus.setProfiling(false);
 		eventBus.unregister(soundEffectOverlay);
+		eventBus.unregister(overlayTimingOverlay);
 		overlayManager.remove(overlay);
 		overlayManager.remove(locationOverlay);
 		overlayManager.remove(sceneOverlay);
@@ -218,6 +229,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
+		overlayManager.remove(overlayTimingOverlay);
 		clientToolbar.removeNavigation(navButton);
 	}
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventProfile;
+import net.runelite.client.ui.ClientUI;
+
+/**
+ * Shows the time spent in each event subscriber while open
+ */
+@Slf4j
+class EventProfiler extends JFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private final EventBus eventBus;
+	private final SubscriberTableModel model = new SubscriberTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	EventProfiler(EventBus eventBus, DevToolsPlugin plugin)
+	{
+		this.eventBus = eventBus;
+
+		setTitle("RuneLite Event Profiler");
+		setIconImage(ClientUI.ICON);
+
+		setLayout(new BorderLayout());
+
+		setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				close();
+				plugin.getEventProfiler().setActive(false);
+			}
+		});
+
+		final JTable table = new JTable(model);
+		table.getColumnModel().getColumn(0).setPreferredWidth(400);
+		final JScrollPane scroller = new JScrollPane(table);
+		scroller.setPreferredSize(new Dimension(800, 400));
+		add(scroller, BorderLayout.CENTER);
+
+		final JPanel buttons = new JPanel();
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.resetProfile();
+			refresh();
+		});
+		buttons.add(resetBtn);
+
+		final JButton dumpBtn = new JButton("Dump to log");
+		dumpBtn.addActionListener(e -> log.info("Event profile:{}{}", System.lineSeparator(), eventBus.getProfile().dump()));
+		buttons.add(dumpBtn);
+
+		add(buttons, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	public void open()
+	{
+		eventBus.setProfiling(true);
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+		repaint();
+	}
+
+	public void close()
+	{
+		refreshTimer.stop();
+		eventBus.setProfiling(false);
+		setVisible(false);
+	}
+
+	private void refresh()
+	{
+		model.setTimings(eventBus.getProfile().getSubscribers());
+	}
+
+	private static class SubscriberTableModel extends AbstractTableModel
+	{
+		private static final String[] COLUMNS = {"Subscriber", "Event", "Calls", "Total (ms)", "Average (us)", "Max (us)"};
+
+		private List<EventProfile.SubscriberTiming> timings = Collections.emptyList();
+
+		void setTimings(List<EventProfile.SubscriberTiming> timings)
+		{
+			this.timings = timings;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return timings.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return COLUMNS[column];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			switch (column)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			final EventProfile.SubscriberTiming timing = timings.get(row);
+			switch (column)
+			{
+				case 0:
+					return timing.getSubscriber();
+				case 1:
+					return timing.getEvent().getSimpleName();
+				case 2:
+					return timing.getTiming().getCount();
+				case 3:
+					return timing.getTiming().getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+				case 4:
+					return timing.getTiming().getAverageNanos() / (double) TimeUnit.MICROSECONDS.toNanos(1);
+				default:
+					return timing.getTiming().getMaxNanos() / (double) TimeUnit.MICROSECONDS.toNanos(1);
+			}
+		}
+	}
+}
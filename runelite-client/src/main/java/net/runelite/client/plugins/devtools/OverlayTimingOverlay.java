@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import lombok.Value;
+import net.runelite.api.Client;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayRenderer;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.PanelComponent;
+
+public class OverlayTimingOverlay extends Overlay
+{
+	private static final long SAMPLE_NANOS = 1_000_000_000L;
+	private static final Sample INACTIVE = new Sample(false, 0, 0, 0, 0);
+
+	@Value
+	private static class Sample
+	{
+		private final boolean active;
+		private final int fps;
+		private final long frameMicros;
+		private final int rendered;
+		private final int retained;
+	}
+
+	private final Client client;
+	private final DevToolsPlugin plugin;
+	private final OverlayRenderer overlayRenderer;
+	private final PanelComponent panelComponent = new PanelComponent();
+
+	private long sampleStart;
+	private int frames;
+	private long frameNanos;
+	private long rendered;
+	private long retained;
+	private Sample sample = INACTIVE;
+
+	@Inject
+	OverlayTimingOverlay(Client client, DevToolsPlugin plugin, OverlayRenderer overlayRenderer)
+	{
+		this.client = client;
+		this.plugin = plugin;
+		this.overlayRenderer = overlayRenderer;
+		panelComponent.setPreferredSize(new Dimension(150, 0));
+		setPosition(OverlayPosition.TOP_LEFT);
+		// only drawn again when the sample changes
+		setRetained(true);
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender event)
+	{
+		if (!plugin.getOverlayTiming().isActive())
+		{
+			sample = INACTIVE;
+			frames = 0;
+			return;
+		}
+
+		if (frames == 0)
+		{
+			sampleStart = System.nanoTime();
+			frameNanos = 0;
+			rendered = 0;
+			retained = 0;
+		}
+
+		++frames;
+		frameNanos += overlayRenderer.getLastFrameNanos();
+		rendered += overlayRenderer.getLastFrameRendered();
+		retained += overlayRenderer.getLastFrameRetained();
+
+		final long now = System.nanoTime();
+		if (now - sampleStart >= SAMPLE_NANOS)
+		{
+			sample = new Sample(true, client.getFPS(), frameNanos / frames / 1000, (int) (rendered / frames), (int) (retained / frames));
+			frames = 0;
+		}
+	}
+
+	@Override
+	public Object getRenderInputs()
+	{
+		return sample;
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		final Sample sample = this.sample;
+		if (!sample.isActive())
+		{
+			return null;
+		}
+
+		panelComponent.getChildren().clear();
+
+		panelComponent.getChildren().add(LineComponent.builder()
+			.left("FPS")
+			.right(String.valueOf(sample.getFps()))
+			.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+			.left("Overlays")
+			.right(sample.getFrameMicros() + " us")
+			.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+			.left("Rendered")
+			.right(String.valueOf(sample.getRendered()))
+			.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+			.left("Retained")
+			.right(String.valueOf(sample.getRetained()))
+			.build());
+
+		return panelComponent.render(graphics);
+	}
+}
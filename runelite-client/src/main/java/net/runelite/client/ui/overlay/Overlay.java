@@ -29,7 +29,9 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -50,6 +52,17 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private OverlayLayer layer = OverlayLayer.UNDER_WIDGETS;
 	private final List<OverlayMenuEntry> menuEntries = new ArrayList<>();
 
+	/**
+	 * Whether the renderer composites the last image rendered by this overlay instead of
+	 * calling {@link #render(java.awt.Graphics2D)} each frame. A retained overlay is
+	 * rendered again after {@link #invalidate()} or when {@link #getRenderInputs()}
+	 * changes, and must only draw within the dimension it returns.
+	 */
+	private boolean retained;
+
+	@Getter(AccessLevel.NONE)
+	private final AtomicBoolean dirty = new AtomicBoolean(true);
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -68,4 +81,31 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 		return this.getClass().getSimpleName();
 	}
+
+	/**
+	 * Render a retained overlay again on the next frame
+	 */
+	public void invalidate()
+	{
+		dirty.set(true);
+	}
+
+	/**
+	 * Values a retained overlay's image depends on. The overlay is rendered again when
+	 * they are no longer equal to the values of the last render.
+	 * @return render inputs, or null if the overlay is only rendered again when invalidated
+	 */
+	@Nullable
+	public Object getRenderInputs()
+	{
+		return null;
+	}
+
+	/**
+	 * @return whether the overlay was invalidated since the last call
+	 */
+	boolean clearDirty()
+	{
+		return dirty.getAndSet(false);
+	}
 }
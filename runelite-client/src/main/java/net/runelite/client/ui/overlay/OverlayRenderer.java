@@ -26,9 +26,11 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -38,10 +40,16 @@ import java.awt.Stroke;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -93,6 +101,47 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private boolean isResizeable;
 	private OverlayBounds snapCorners;
 
+	// Retained overlay images, and the canvas sized image they are rendered into
+	private final Map<Overlay, RetainedImage> retainedImages = new WeakHashMap<>();
+	private BufferedImage retainedCanvas;
+
+	// Overlay frame time, published at the start of each frame
+	private long frameNanos;
+	private int frameRendered;
+	private int frameRetained;
+	/**
+	 * Time spent rendering overlays in the last frame, in nanoseconds
+	 */
+	@Getter
+	private long lastFrameNanos;
+	/**
+	 * Number of overlays rendered in the last frame
+	 */
+	@Getter
+	private int lastFrameRendered;
+	/**
+	 * Number of retained overlays composited without rendering them in the last frame
+	 */
+	@Getter
+	private int lastFrameRetained;
+
+	@RequiredArgsConstructor
+	private static class RetainedImage
+	{
+		private final Object inputs;
+		private final Font font;
+		private final Dimension preferredSize;
+		private final BufferedImage image;
+		private final Dimension dimension;
+
+		boolean isValid(Object inputs, Font font, Dimension preferredSize)
+		{
+			return Objects.equals(this.inputs, inputs)
+				&& Objects.equals(this.font, font)
+				&& Objects.equals(this.preferredSize, preferredSize);
+		}
+	}
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
@@ -150,6 +199,13 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	public void onBeforeRender(BeforeRender event)
 	{
 		menuEntries = null;
+
+		lastFrameNanos = frameNanos;
+		lastFrameRendered = frameRendered;
+		lastFrameRetained = frameRetained;
+		frameNanos = 0;
+		frameRendered = 0;
+		frameRetained = 0;
 	}
 
 	public void render(Graphics2D graphics, final OverlayLayer layer)
@@ -492,21 +548,99 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final long start = System.nanoTime();
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			overlayDimension = overlay.isRetained() ? renderRetained(overlay, graphics) : renderOverlay(overlay, graphics);
 		}
 		catch (Exception ex)
 		{
 			log.warn("Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			frameNanos += System.nanoTime() - start;
+		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
 	}
 
+	private Dimension renderOverlay(Overlay overlay, Graphics2D graphics)
+	{
+		++frameRendered;
+		return overlay.render(graphics);
+	}
+
+	private Dimension renderRetained(Overlay overlay, Graphics2D graphics)
+	{
+		final boolean dirty = overlay.clearDirty();
+		final Object inputs = overlay.getRenderInputs();
+		final Font font = graphics.getFont();
+		final Dimension preferredSize = overlay.getPreferredSize();
+
+		RetainedImage retained = retainedImages.get(overlay);
+		if (dirty || retained == null || !retained.isValid(inputs, font, preferredSize))
+		{
+			retained = renderImage(overlay, graphics, inputs, font, preferredSize);
+			retainedImages.put(overlay, retained);
+		}
+		else
+		{
+			++frameRetained;
+		}
+
+		if (retained.image != null)
+		{
+			graphics.drawImage(retained.image, 0, 0, null);
+		}
+		return retained.dimension;
+	}
+
+	private RetainedImage renderImage(Overlay overlay, Graphics2D graphics, Object inputs, Font font, Dimension preferredSize)
+	{
+		final int width = client.getCanvasWidth();
+		final int height = client.getCanvasHeight();
+		if (retainedCanvas == null || retainedCanvas.getWidth() != width || retainedCanvas.getHeight() != height)
+		{
+			retainedCanvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		final Dimension dimension;
+		final Graphics2D canvasGraphics = retainedCanvas.createGraphics();
+		try
+		{
+			canvasGraphics.setComposite(AlphaComposite.Clear);
+			canvasGraphics.fillRect(0, 0, width, height);
+			canvasGraphics.setComposite(AlphaComposite.SrcOver);
+			canvasGraphics.setRenderingHints(graphics.getRenderingHints());
+			canvasGraphics.setFont(font);
+			canvasGraphics.setColor(graphics.getColor());
+			canvasGraphics.setBackground(graphics.getBackground());
+
+			dimension = renderOverlay(overlay, canvasGraphics);
+		}
+		finally
+		{
+			canvasGraphics.dispose();
+		}
+
+		BufferedImage image = null;
+		if (dimension != null && dimension.width > 0 && dimension.height > 0)
+		{
+			image = new BufferedImage(Math.min(dimension.width, width), Math.min(dimension.height, height), BufferedImage.TYPE_INT_ARGB);
+			final Graphics2D imageGraphics = image.createGraphics();
+			imageGraphics.setComposite(AlphaComposite.Src);
+			imageGraphics.drawImage(retainedCanvas, 0, 0, null);
+			imageGraphics.dispose();
+		}
+
+		return new RetainedImage(inputs, font, preferredSize == null ? null : new Dimension(preferredSize), image,
+			dimension == null ? null : new Dimension(dimension));
+	}
+
 	private boolean shouldInvalidateBounds()
 	{
 		final Widget chatbox = client.getWidget(WidgetInfo.CHATBOX);
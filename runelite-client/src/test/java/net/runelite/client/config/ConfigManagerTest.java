@@ -29,6 +29,8 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
@@ -99,6 +101,41 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testConfigurationChanges()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertSame(conf, manager.getConfig(TestConfig.class));
+		Assert.assertEquals("default", conf.key());
+
+		manager.setConfiguration("test", "key", "changed");
+		Assert.assertEquals("changed", conf.key());
+
+		manager.setConfiguration("test", "other", "value");
+		manager.setConfiguration("other", "key", "value");
+		Assert.assertEquals("changed", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("test", "tag_a", "1");
+		manager.setConfiguration("test", "tag_b", "2");
+		manager.setConfiguration("test", "key", "3");
+		manager.setConfiguration("tests", "tag_c", "4");
+
+		Assert.assertEquals(Arrays.asList("test.tag_a", "test.tag_b"), manager.getConfigurationKeys("test.tag_"));
+		Assert.assertEquals(3, manager.getConfigurationKeys("test.").size());
+		Assert.assertEquals(4, manager.getConfigurationKeys("test").size());
+		Assert.assertTrue(manager.getConfigurationKeys("other.").isEmpty());
+
+		manager.unsetConfiguration("test", "tag_a");
+		Assert.assertEquals(Collections.singletonList("test.tag_b"), manager.getConfigurationKeys("test.tag_"));
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
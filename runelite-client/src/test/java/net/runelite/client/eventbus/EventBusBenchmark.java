@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.ImmutableMultimap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Posting events with and without subscribers, compared against dispatch
+ * through a multimap lookup as the event bus used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark
+{
+	public static class Tick
+	{
+	}
+
+	public static class Unsubscribed
+	{
+	}
+
+	public static class Listener
+	{
+		private int ticks;
+
+		@Subscribe
+		public void onTick(Tick tick)
+		{
+			++ticks;
+		}
+	}
+
+	@Param({"1", "10", "100"})
+	private int subscribers;
+
+	private final EventBus eventBus = new EventBus();
+	private ImmutableMultimap<Class, EventBus.SubscriberMethod> multimap;
+
+	private final Tick tick = new Tick();
+	private final Unsubscribed unsubscribed = new Unsubscribed();
+
+	@Setup
+	public void setup()
+	{
+		ImmutableMultimap.Builder<Class, EventBus.SubscriberMethod> builder = ImmutableMultimap.builder();
+		for (int i = 0; i < subscribers; ++i)
+		{
+			Listener listener = new Listener();
+			eventBus.register(listener);
+			builder.put(Tick.class, event -> listener.onTick((Tick) event));
+		}
+		multimap = builder.build();
+	}
+
+	@Benchmark
+	public void post()
+	{
+		eventBus.post(tick);
+	}
+
+	@Benchmark
+	public void postUnsubscribed()
+	{
+		eventBus.post(unsubscribed);
+	}
+
+	@Benchmark
+	public void postMultimap()
+	{
+		postMultimap(tick);
+	}
+
+	@Benchmark
+	public void postUnsubscribedMultimap()
+	{
+		postMultimap(unsubscribed);
+	}
+
+	private void postMultimap(Object event)
+	{
+		for (EventBus.SubscriberMethod subscriber : multimap.get(event.getClass()))
+		{
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
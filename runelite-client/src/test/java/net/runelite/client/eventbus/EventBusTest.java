@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static final List<String> calls = new ArrayList<>();
+
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	public static class First
+	{
+		@Subscribe(priority = -1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("first");
+		}
+	}
+
+	public static class Second
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("second");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("second other");
+		}
+	}
+
+	public static class Third
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("third");
+		}
+	}
+
+	private EventBus eventBus;
+
+	@Before
+	public void before()
+	{
+		calls.clear();
+		eventBus = new EventBus();
+	}
+
+	@Test
+	public void testPriority()
+	{
+		eventBus.register(new Third());
+		eventBus.register(new First());
+		eventBus.register(new Second());
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("first", "second", "third"), calls);
+	}
+
+	@Test
+	public void testUnregisterKeepsOrder()
+	{
+		Second second = new Second();
+		eventBus.register(new Third());
+		eventBus.register(second);
+		eventBus.register(new First());
+		eventBus.unregister(second);
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("first", "third"), calls);
+	}
+
+	@Test
+	public void testNoSubscribers()
+	{
+		Second second = new Second();
+		eventBus.register(second);
+		eventBus.unregister(second);
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new Object());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		eventBus.register(new First());
+		eventBus.register(new Second());
+
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getProfile().getSubscribers().isEmpty());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		eventBus.setProfiling(false);
+		eventBus.post(new OtherEvent());
+
+		EventProfile profile = eventBus.getProfile();
+		assertEquals(3, profile.getSubscribers().size());
+		assertEquals(2, profile.getEvents().size());
+		for (EventProfile.SubscriberTiming timing : profile.getSubscribers())
+		{
+			assertEquals(timing.getEvent() == TestEvent.class ? 2 : 1, timing.getTiming().getCount());
+		}
+		for (EventProfile.EventTiming timing : profile.getEvents())
+		{
+			long[] histogram = timing.getTiming().getHistogram();
+			assertEquals(timing.getTiming().getCount(), Arrays.stream(histogram).sum());
+		}
+
+		eventBus.resetProfile();
+		profile = eventBus.getProfile();
+		assertTrue(profile.getSubscribers().isEmpty());
+		assertTrue(profile.getEvents().isEmpty());
+	}
+}
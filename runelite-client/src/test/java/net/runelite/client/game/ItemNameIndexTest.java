@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemNameIndexTest
+{
+	private final ItemNameIndex<String> index = new ItemNameIndex<>(Arrays.asList(
+		"Rune platebody",
+		"Rune scimitar",
+		"Dragon scimitar",
+		"Scimitar",
+		"Runite bar",
+		"Prune",
+		"Rune"
+	), Function.identity());
+
+	@Test
+	public void testSearch()
+	{
+		assertEquals(Arrays.asList("Scimitar", "Rune scimitar", "Dragon scimitar"), index.search("SCIMITAR", Integer.MAX_VALUE));
+		assertEquals(Arrays.asList("Rune", "Rune scimitar", "Rune platebody", "Prune"), index.search("rune", Integer.MAX_VALUE));
+		assertEquals(Arrays.asList("Rune", "Rune scimitar"), index.search("rune", 2));
+		assertEquals(Collections.singletonList("Runite bar"), index.search("ite b", Integer.MAX_VALUE));
+		assertEquals(Collections.emptyList(), index.search("runes", Integer.MAX_VALUE));
+		assertEquals(Collections.emptyList(), index.search("", Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testShortSearch()
+	{
+		assertEquals(Arrays.asList("Rune", "Runite bar", "Rune scimitar", "Rune platebody", "Prune"), index.search("ru", Integer.MAX_VALUE));
+		assertEquals(Collections.singletonList("Runite bar"), index.search("b", 1));
+	}
+}
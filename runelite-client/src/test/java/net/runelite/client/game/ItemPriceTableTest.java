@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.HashMap;
+import java.util.Map;
+import static net.runelite.api.ItemID.*;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemPriceTableTest
+{
+	@Test
+	public void testGetPrice()
+	{
+		final Map<Integer, ItemPrice> prices = new HashMap<>();
+		price(prices, DRAGON_SCIMITAR, 60_000);
+		price(prices, DRAGON_SCIMITAR_ORNAMENT_KIT, 500_000);
+		price(prices, AMYLASE_CRYSTAL, 800);
+
+		final ItemPriceTable table = new ItemPriceTable(prices);
+
+		assertEquals(60_000, table.getPrice(DRAGON_SCIMITAR, false));
+		// mapped to the scimitar and the kit
+		assertEquals(560_000, table.getPrice(DRAGON_SCIMITAR_OR, false));
+		assertEquals(1, table.getPrice(COINS_995, true));
+		assertEquals(1000, table.getPrice(PLATINUM_TOKEN, false));
+
+		// graceful is reclaimed for marks of grace, which are reclaimed for amylase
+		assertEquals(28 * 10 * 800, table.getPrice(GRACEFUL_HOOD, false));
+		assertEquals(0, table.getPrice(GRACEFUL_HOOD, true));
+		assertEquals(1000, table.getPrice(LONG_BONE, false));
+
+		// past the end of the table
+		assertEquals(0, table.getPrice(Integer.MAX_VALUE, false));
+		assertEquals(0, table.getPrice(-1, false));
+	}
+
+	private static void price(Map<Integer, ItemPrice> prices, int itemId, int price)
+	{
+		final ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(itemId);
+		itemPrice.setPrice(price);
+		prices.put(itemId, itemPrice);
+	}
+}